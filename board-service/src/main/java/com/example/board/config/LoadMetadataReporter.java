@@ -0,0 +1,58 @@
+package com.example.board.config;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 현재 부하(처리 중 요청, Tomcat 스레드 사용률)를 주기적으로 Eureka 메타데이터에 게시
+@Component
+public class LoadMetadataReporter {
+
+    @Autowired
+    private ApplicationInfoManager applicationInfoManager;
+
+    @Autowired
+    private InFlightRequestFilter inFlightRequestFilter;
+
+    private volatile Executor tomcatExecutor;
+
+    // 보고할 때마다 증가, 게이트웨이는 호스트 간 시계 차이 없이 이 값의 변화로 보고가 살아 있는지 판단
+    private final AtomicLong sequence = new AtomicLong();
+
+    @EventListener
+    public void onWebServerInitialized(ServletWebServerInitializedEvent event) {
+        if (event.getWebServer() instanceof TomcatWebServer) {
+            TomcatWebServer webServer = (TomcatWebServer) event.getWebServer();
+            tomcatExecutor = webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${load-report.interval-ms:5000}")
+    public void report() {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("loadInFlight", String.valueOf(inFlightRequestFilter.getInFlight()));
+        metadata.put("loadThreadUtilization", String.valueOf(threadUtilization()));
+        metadata.put("loadUpdatedAt", String.valueOf(System.currentTimeMillis()));
+        metadata.put("loadSeq", String.valueOf(sequence.incrementAndGet()));
+        applicationInfoManager.registerAppMetadata(metadata);
+    }
+
+    private double threadUtilization() {
+        Executor executor = tomcatExecutor;
+        if (executor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+            return (double) pool.getActiveCount() / pool.getMaximumPoolSize();
+        }
+        return 0.0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.gatewayservice.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+    private final HttpStatusCode status;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final long expiresAt;
+
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().putAll(headers);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    // 재사용 가능한 응답 헤더만 복사 (길이/전송 인코딩, CORS 헤더 제외)
+    public static HttpHeaders reusableHeaders(HttpHeaders source) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(source);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.keySet().removeIf(name -> name.regionMatches(true, 0, "Access-Control-", 0, 15)
+                || name.regionMatches(true, 0, "X-Cache", 0, 7)
+                // 헤지 여부는 해당 요청에만 해당하므로 캐시 적중 응답에 다시 내보내지 않음
+                || name.equalsIgnoreCase("X-Hedged"));
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+}
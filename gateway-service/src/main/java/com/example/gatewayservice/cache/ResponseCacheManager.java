@@ -0,0 +1,50 @@
+package com.example.gatewayservice.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 라우트별 응답 캐시 보관 및 무효화
+@Component
+public class ResponseCacheManager {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, RouteResponseCache> caches = new ConcurrentHashMap<>();
+
+    public RouteResponseCache cacheFor(String routeId, long ttlMillis, long maxBytes) {
+        return caches.computeIfAbsent(routeId, id -> {
+            RouteResponseCache cache = new RouteResponseCache(ttlMillis, maxBytes);
+            FunctionCounter.builder("gateway.response.cache.hits", cache.hits, AtomicLong::get)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            FunctionCounter.builder("gateway.response.cache.misses", cache.misses, AtomicLong::get)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.response.cache.hit.ratio", cache, RouteResponseCache::hitRatio)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.response.cache.bytes", cache, RouteResponseCache::bytes)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.response.cache.entries", cache, RouteResponseCache::size)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            return cache;
+        });
+    }
+
+    public void invalidate(String routeId) {
+        RouteResponseCache cache = caches.get(routeId);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+}
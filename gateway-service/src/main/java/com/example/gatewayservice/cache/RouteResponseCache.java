@@ -0,0 +1,98 @@
+package com.example.gatewayservice.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 라우트 하나의 응답 캐시 (TTL + 최대 바이트 수 기준 LRU)
+public class RouteResponseCache {
+
+    private final long ttlMillis;
+    private final long maxBytes;
+
+    private final Map<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+
+    // 무효화 이후 진행 중이던 응답이 오래된 값을 저장하지 않도록 세대 번호 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    final AtomicLong hits = new AtomicLong();
+    final AtomicLong misses = new AtomicLong();
+
+    public RouteResponseCache(long ttlMillis, long maxBytes) {
+        this.ttlMillis = ttlMillis;
+        this.maxBytes = maxBytes;
+    }
+
+    public CachedResponse get(String key) {
+        CachedResponse response;
+        synchronized (this) {
+            response = entries.get(key);
+            if (response != null && response.getExpiresAt() <= System.currentTimeMillis()) {
+                remove(key);
+                response = null;
+            }
+        }
+        if (response == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return response;
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public void put(String key, long expectedGeneration, HttpStatusCode status, HttpHeaders headers, byte[] body) {
+        if (body.length > maxBytes) {
+            return;
+        }
+        CachedResponse response = new CachedResponse(status, headers, body, System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            if (generation.get() != expectedGeneration) {
+                return;
+            }
+            remove(key);
+            entries.put(key, response);
+            bytes += body.length;
+
+            Iterator<Map.Entry<String, CachedResponse>> it = entries.entrySet().iterator();
+            while (bytes > maxBytes && it.hasNext()) {
+                bytes -= it.next().getValue().getBody().length;
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public double hitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.getBody().length;
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.example.gatewayservice.controller;
 
 import com.example.gatewayservice.entity.User;
 import com.example.gatewayservice.repository.UserRepository;
+import com.example.gatewayservice.service.UserCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -15,9 +17,12 @@ public class AdminController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     @GetMapping("/users")
     public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userRepository.findAll());
+        return ResponseEntity.ok(userCache.findAll());
     }
 
     @PutMapping("/users/{id}")
@@ -25,17 +30,24 @@ public class AdminController {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
+        String previousUsername = existingUser.getUsername();
         existingUser.setUsername(user.getUsername());
         existingUser.setEmail(user.getEmail());
         existingUser.setRole(user.getRole());
 
         userRepository.save(existingUser);
+        // 변경 즉시 이전/새 username 캐시 항목 무효화
+        userCache.invalidate(previousUsername);
+        userCache.invalidate(existingUser.getUsername());
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/users/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
+        // 삭제한 뒤 무효화해야 그 사이의 조회가 삭제 전 사용자를 다시 캐시하지 않음
+        Optional<User> user = userRepository.findById(id);
         userRepository.deleteById(id);
+        user.ifPresent(deleted -> userCache.invalidate(deleted.getUsername()));
         return ResponseEntity.ok().build();
     }
 } 
\ No newline at end of file
@@ -3,12 +3,10 @@ package com.example.gatewayservice.controller;
 import com.example.gatewayservice.dto.LoginRequest;
 import com.example.gatewayservice.dto.LoginResponse;
 import com.example.gatewayservice.dto.RegisterRequest;
-import com.example.gatewayservice.entity.User;
-import com.example.gatewayservice.repository.UserRepository;
+import com.example.gatewayservice.service.AuthExecutor;
 import com.example.gatewayservice.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
@@ -20,32 +18,20 @@ public class AuthController {
     private AuthService authService;
 
     @Autowired
-    private UserRepository userRepository;
-
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private AuthExecutor authExecutor;
 
+    // 블로킹 작업(JPA 조회, BCrypt)은 이벤트 루프가 아닌 전용 스레드 풀에서 실행
     @PostMapping("/login")
     public Mono<ResponseEntity<LoginResponse>> login(@RequestBody LoginRequest loginRequest) {
-        return Mono.just(authService.login(loginRequest))
+        return authExecutor.execute(() -> authService.login(loginRequest))
                 .map(response -> ResponseEntity.ok(response));
     }
 
     @PostMapping("/register")
     public Mono<ResponseEntity<Void>> register(@RequestBody RegisterRequest registerRequest) {
-        return Mono.just(registerRequest)
-                .flatMap(request -> {
-                    if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-                        return Mono.just(ResponseEntity.badRequest().build());
-                    }
-
-                    User user = new User();
-                    user.setUsername(request.getUsername());
-                    user.setPassword(passwordEncoder.encode(request.getPassword()));
-                    user.setEmail(request.getEmail());
-                    user.setRole("USER");
-
-                    userRepository.save(user);
-                    return Mono.just(ResponseEntity.ok().build());
-                });
+        return authExecutor.execute(() -> authService.register(registerRequest))
+                .map(created -> created
+                        ? ResponseEntity.ok().<Void>build()
+                        : ResponseEntity.badRequest().<Void>build());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.example.gatewayservice.controller;
+
+import com.example.gatewayservice.dto.OrderView;
+import com.example.gatewayservice.service.OrderViewService;
+import com.example.gatewayservice.util.JwtUtil;
+import com.example.gatewayservice.util.TokenClaims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// 여러 서비스 응답을 게이트웨이에서 조합하는 화면용 API
+// 게이트웨이 라우트가 아니므로 GlobalFilter 대신 여기서 직접 토큰을 검증
+@RestController
+@RequestMapping("/api/views")
+public class OrderViewController {
+
+    @Autowired
+    private OrderViewService orderViewService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @GetMapping("/orders/{id}")
+    public Mono<ResponseEntity<OrderView>> getOrderView(@PathVariable Long id,
+                                                        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        TokenClaims claims = authenticate(authorization);
+        if (claims == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+        return orderViewService.getOrderView(id, claims)
+                .map(view -> ResponseEntity.ok(view));
+    }
+
+    private TokenClaims authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            TokenClaims claims = jwtUtil.parseToken(authorization.substring(7));
+            return claims.isExpired() ? null : claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.gatewayservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// 주문 상세 화면용 조합 응답 (주문 + 주문에 포함된 상품 정보)
+@Getter
+@AllArgsConstructor
+public class OrderView {
+    private JsonNode order;
+    private Map<Long, JsonNode> products;
+    // 시간 안에 조회하지 못한 상품 ID, 비어 있지 않으면 partial=true
+    private List<Long> unavailableProducts;
+    private boolean partial;
+}
@@ -0,0 +1,71 @@
+package com.example.gatewayservice.filter;
+
+import com.example.gatewayservice.limiter.AdaptiveConcurrencyLimiter;
+import com.example.gatewayservice.limiter.ConcurrencyLimiterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+// 하위 라우트별 적응형 동시성 제한, 한도를 넘는 요청은 하위 연결 없이 즉시 503 으로 차단
+@Component
+public class AdaptiveConcurrencyLimitFilter implements GlobalFilter, Ordered {
+
+    @Autowired
+    private ConcurrencyLimiterRegistry registry;
+
+    @Value("${gateway.concurrency-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gateway.concurrency-limit.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        // 오래 유지되는 스트리밍 라우트(metadata.streaming=true)는 동시성/지연 통계에서 제외
+        if (!enabled || route == null || Boolean.parseBoolean(String.valueOf(route.getMetadata().get("streaming")))) {
+            return chain.filter(exchange);
+        }
+
+        AdaptiveConcurrencyLimiter limiter = registry.limiterFor(route.getId());
+        if (!limiter.tryAcquire()) {
+            exchange.getAttributes().put(CircuitBreakerFilter.LOCAL_REJECTION_ATTR, true);
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return response.setComplete();
+        }
+
+        long startedAt = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError())) {
+                        limiter.onDropped();
+                    } else if (signal == SignalType.CANCEL) {
+                        limiter.onIgnore();
+                    } else {
+                        limiter.onSuccess(System.nanoTime() - startedAt);
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // 캐시/요청 병합 필터 이후, 로드밸런서가 인스턴스를 고르기 직전에 실행
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 50;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.gatewayservice.filter;
+
+import com.example.gatewayservice.util.JwtUtil;
+import com.example.gatewayservice.util.TokenClaims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// 관리자 API 권한 확인, 세션 대신 검증된 JWT 의 role 클레임만 사용 (게이트웨이 복제본 간 상태 공유 불필요)
+// /api/admin 은 게이트웨이 자체 컨트롤러이므로 GlobalFilter 가 아닌 WebFilter 로 적용
+@Component
+public class AdminAuthorizationFilter implements WebFilter, Ordered {
+
+    public static final String ADMIN_ROLE = "ADMIN";
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${gateway.auth.admin-paths:/api/admin/**}")
+    private List<String> adminPaths;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (HttpMethod.OPTIONS.equals(request.getMethod()) || !isAdminPath(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith("Bearer ")) {
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
+        }
+
+        TokenClaims claims;
+        try {
+            claims = jwtUtil.parseToken(header.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
+        }
+        if (claims.isExpired()) {
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
+        }
+        if (!ADMIN_ROLE.equals(claims.getRole())) {
+            return reject(exchange, HttpStatus.FORBIDDEN);
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        // 요청 제한(RateLimitFilter) 다음에 실행
+        return Ordered.HIGHEST_PRECEDENCE + 200;
+    }
+
+    private boolean isAdminPath(String path) {
+        for (String pattern : adminPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        return exchange.getResponse().setComplete();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.gatewayservice.filter;
+
+import com.example.gatewayservice.resilience.RetryBudget;
+import com.example.gatewayservice.resilience.RetryBudgetRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+// 멱등한 GET/HEAD 요청만 재시도, 라우트별 재시도 예산이 남아 있을 때만 재시도
+// 재시도마다 체인을 다시 타므로 로드밸런서가 인스턴스를 새로 고름
+// 예: spring.cloud.gateway.routes[2].filters[0]=BudgetedRetry=2,50
+@Component
+public class BudgetedRetryGatewayFilterFactory extends AbstractGatewayFilterFactory<BudgetedRetryGatewayFilterFactory.Config> {
+
+    @Autowired
+    private RetryBudgetRegistry budgetRegistry;
+
+    public BudgetedRetryGatewayFilterFactory() {
+        super(Config.class);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return Arrays.asList("retries", "backoffMillis");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            HttpMethod method = exchange.getRequest().getMethod();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (route == null || !(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))) {
+                return chain.filter(exchange);
+            }
+            RetryBudget budget = budgetRegistry.budgetFor(route.getId());
+            budget.onRequest();
+            return attempt(exchange, chain, config, budget, 0);
+        };
+    }
+
+    private Mono<Void> attempt(ServerWebExchange exchange, GatewayFilterChain chain,
+                               Config config, RetryBudget budget, int retried) {
+        return chain.filter(exchange)
+                .then(Mono.just(Optional.<Throwable>empty()))
+                .onErrorResume(e -> Mono.just(Optional.of(e)))
+                .flatMap(error -> {
+                    boolean retryable = error.map(this::isRetryableError)
+                            .orElseGet(() -> isRetryableStatus(exchange, config));
+                    if (retryable && retried < config.getRetries()
+                            && !exchange.getResponse().isCommitted()
+                            && budget.tryWithdraw()) {
+                        reset(exchange);
+                        long backoff = config.getBackoffMillis() * (1L << retried);
+                        return Mono.delay(Duration.ofMillis(backoff))
+                                .then(Mono.defer(() -> attempt(exchange, chain, config, budget, retried + 1)));
+                    }
+                    return error.<Mono<Void>>map(Mono::error).orElseGet(Mono::empty);
+                });
+    }
+
+    private boolean isRetryableStatus(ServerWebExchange exchange, Config config) {
+        // 게이트웨이가 직접 거절한 503 은 하위 인스턴스를 호출하지 않았으므로 재시도하지 않음
+        if (exchange.getAttribute(CircuitBreakerFilter.LOCAL_REJECTION_ATTR) != null) {
+            return false;
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null && config.getStatuses().contains(status.value());
+    }
+
+    private boolean isRetryableError(Throwable e) {
+        if (e instanceof ResponseStatusException rse) {
+            // 응답 타임아웃은 NettyRoutingFilter 가 504 로 변환함
+            return rse.getStatusCode().value() == 504;
+        }
+        return e instanceof IOException || e instanceof TimeoutException;
+    }
+
+    // 이전 시도의 하위 응답 연결과 응답 헤더를 정리
+    private void reset(ServerWebExchange exchange) {
+        Connection connection = exchange.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+        if (connection != null) {
+            connection.dispose();
+            exchange.getAttributes().remove(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+        }
+        ServerWebExchangeUtils.reset(exchange);
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private int retries = 2;
+        private long backoffMillis = 50;
+        private List<Integer> statuses = Arrays.asList(502, 503, 504);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.gatewayservice.filter;
+
+import com.example.gatewayservice.resilience.RouteCircuitBreakers;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+// 라우트별 서킷 브레이커, OPEN 상태에서는 하위 서비스를 호출하지 않고 즉시 503 반환
+// 하위 호출 시도마다 기록되므로 재시도(BudgetedRetry) 필터보다 안쪽에서 실행
+@Component
+public class CircuitBreakerFilter implements GlobalFilter, Ordered {
+
+    // 게이트웨이가 하위 서비스를 호출하지 않고 직접 거절한 응답 표시 (서킷 OPEN, 동시성 한도 초과)
+    // 서킷 브레이커 실패율과 재시도 대상에서 제외
+    public static final String LOCAL_REJECTION_ATTR = "gateway.localRejection";
+
+    @Autowired
+    private RouteCircuitBreakers circuitBreakers;
+
+    @Value("${gateway.circuit-breaker.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        // 스트리밍 라우트는 응답이 끝날 때까지 수십 분이 걸리므로 실패율/지연 판단에서 제외
+        if (!enabled || route == null || Boolean.parseBoolean(String.valueOf(route.getMetadata().get("streaming")))) {
+            return chain.filter(exchange);
+        }
+
+        CircuitBreaker breaker = circuitBreakers.breakerFor(route);
+        if (!breaker.tryAcquirePermission()) {
+            long retryAfterSeconds = Math.max(1,
+                    TimeUnit.MILLISECONDS.toSeconds(circuitBreakers.getWaitDurationInOpenStateMs(breaker)));
+            exchange.getAttributes().put(LOCAL_REJECTION_ATTR, true);
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return response.setComplete();
+        }
+
+        long startedAt = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(v -> {
+                    // 동시성 제한 필터가 차단한 요청은 하위 서비스 상태와 무관하므로 기록하지 않음
+                    if (exchange.getAttribute(LOCAL_REJECTION_ATTR) != null) {
+                        breaker.releasePermission();
+                        return;
+                    }
+                    long elapsed = System.nanoTime() - startedAt;
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (status != null && status.is5xxServerError()) {
+                        breaker.onError(elapsed, TimeUnit.NANOSECONDS, new ResponseStatusException(status));
+                    } else {
+                        breaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                    }
+                })
+                .doOnError(e -> breaker.onError(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS, e))
+                .doOnCancel(breaker::releasePermission);
+    }
+
+    @Override
+    public int getOrder() {
+        // 동시성 제한보다 먼저 실행해서 OPEN 상태의 요청이 동시성 한도를 차지하지 않도록 함
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 60;
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.gatewayservice.filter;
+
+import com.example.gatewayservice.cache.CachedResponse;
+import com.example.gatewayservice.loadbalancer.InstanceLatencyTracker;
+import com.example.gatewayservice.resilience.LatencyWindow;
+import com.example.gatewayservice.resilience.RetryBudget;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 꼬리 지연시간 완화용 헤지 요청
+// GET 요청이 라우트 응답시간 백분위수(예: p95) 안에 끝나지 않으면 다른 인스턴스로 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용
+// 헤지 요청 비율은 라우트 트래픽의 maxHedgePercent 이하로 제한
+// 예: spring.cloud.gateway.routes[0].filters[3]=Hedging=95,10,20
+@Component
+public class HedgingGatewayFilterFactory extends AbstractGatewayFilterFactory<HedgingGatewayFilterFactory.Config> {
+
+    public static final String HEDGED_HEADER = "X-Hedged";
+
+    private static final int WINDOW_SIZE = 1024;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReactiveDiscoveryClient discoveryClient;
+
+    @Autowired
+    private InstanceLatencyTracker tracker;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Value("${spring.cloud.gateway.httpclient.response-timeout:10s}")
+    private Duration defaultResponseTimeout;
+
+    private WebClient webClient;
+    private final Map<String, RouteHedge> routes = new ConcurrentHashMap<>();
+
+    public HedgingGatewayFilterFactory() {
+        super(Config.class);
+    }
+
+    @PostConstruct
+    void init() {
+        webClient = webClientBuilder.build();
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return Arrays.asList("percentile", "maxHedgePercent", "minDelayMillis");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (route == null || !HttpMethod.GET.equals(exchange.getRequest().getMethod())
+                    || !"lb".equals(route.getUri().getScheme())) {
+                return chain.filter(exchange);
+            }
+            RouteHedge hedge = routes.computeIfAbsent(route.getId(), id -> new RouteHedge(id, config));
+            hedge.budget.onRequest();
+
+            long startedAt = System.nanoTime();
+            long thresholdNanos = hedge.window.percentileNanos(config.getPercentile());
+            if (thresholdNanos < 0) {
+                // 표본이 모일 때까지는 헤지하지 않고 응답시간만 기록
+                return chain.filter(exchange)
+                        .doOnSuccess(v -> hedge.window.record(System.nanoTime() - startedAt));
+            }
+            long delayNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(config.getMinDelayMillis()), thresholdNanos);
+
+            // 원 요청의 본문은 바로 쓰지 않고 모아 두었다가 헤지 요청보다 먼저 끝났을 때만 씀
+            AtomicReference<byte[]> captured = new AtomicReference<>();
+            ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(exchange.getResponse()) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    return DataBufferUtils.join(Flux.from(body))
+                            .doOnNext(joined -> {
+                                byte[] bytes = new byte[joined.readableByteCount()];
+                                joined.read(bytes);
+                                DataBufferUtils.release(joined);
+                                captured.set(bytes);
+                            })
+                            .then();
+                }
+            };
+            Mono<Result> primary = chain.filter(exchange.mutate().response(decorated).build())
+                    .then(Mono.fromSupplier(() -> {
+                        hedge.window.record(System.nanoTime() - startedAt);
+                        return new Result(captured.get(), null, null);
+                    }))
+                    .onErrorResume(e -> Mono.just(new Result(null, null, e)))
+                    // 헤지 응답이 이겨 원 요청이 취소돼도 지연 표본을 남김 (최소 임계값으로 기록, 빠른 표본만 남아 임계값이 낮아지는 것 방지)
+                    .doOnCancel(() -> hedge.window.record(Math.max(System.nanoTime() - startedAt, thresholdNanos)));
+
+            Mono<Result> hedged = Mono.delay(Duration.ofNanos(delayNanos))
+                    .flatMap(tick -> hedge.budget.tryWithdraw() ? sendHedge(exchange, route, hedge) : Mono.empty())
+                    .onErrorResume(e -> Mono.empty());
+
+            return Mono.firstWithValue(primary, hedged)
+                    .flatMap(result -> write(exchange, hedge, result));
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, RouteHedge hedge, Result result) {
+        if (result.error() != null) {
+            return Mono.error(result.error());
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        if (result.hedged() == null) {
+            // 본문이 없으면 원 요청 쪽에서 이미 응답을 마친 경우
+            if (result.body() == null) {
+                return Mono.empty();
+            }
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(result.body())));
+        }
+        hedge.wins.incrementAndGet();
+        // 원 요청이 이미 받아 둔 하위 응답 헤더를 지우고 헤지 응답으로 교체
+        ServerWebExchangeUtils.reset(exchange);
+        response.getHeaders().set(HEDGED_HEADER, "true");
+        return result.hedged().writeTo(response);
+    }
+
+    private Mono<Result> sendHedge(ServerWebExchange exchange, Route route, RouteHedge hedge) {
+        Response<ServiceInstance> primary = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        ServiceInstance exclude = primary != null && primary.hasServer() ? primary.getServer() : null;
+
+        return discoveryClient.getInstances(route.getUri().getHost())
+                .filter(instance -> exclude == null || !sameInstance(instance, exclude))
+                .collectList()
+                .flatMap(candidates -> {
+                    // 원 요청과 다른 인스턴스 중 부하 비용이 가장 낮은 곳으로 전송
+                    ServiceInstance target = candidates.stream()
+                            .min(Comparator.comparingDouble(tracker::cost))
+                            .orElse(null);
+                    if (target == null) {
+                        return Mono.empty();
+                    }
+                    hedge.sent.incrementAndGet();
+                    return call(exchange.getRequest(), target, responseTimeout(route));
+                });
+    }
+
+    private Mono<Result> call(ServerHttpRequest request, ServiceInstance instance, Duration timeout) {
+        URI uri = UriComponentsBuilder.fromUri(request.getURI())
+                .scheme(instance.isSecure() ? "https" : "http")
+                .host(instance.getHost())
+                .port(instance.getPort())
+                .build(true)
+                .toUri();
+
+        long startedAt = System.nanoTime();
+        tracker.onDirectStart(instance);
+        return webClient.get()
+                .uri(uri)
+                .headers(headers -> {
+                    headers.addAll(request.getHeaders());
+                    headers.remove(HttpHeaders.HOST);
+                })
+                .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                        .defaultIfEmpty(new byte[0])
+                        .map(bytes -> new CachedResponse(response.statusCode(),
+                                CachedResponse.reusableHeaders(response.headers().asHttpHeaders()), bytes, 0L)))
+                .timeout(timeout)
+                .doOnSuccess(cached -> tracker.onDirectComplete(instance, System.nanoTime() - startedAt,
+                        cached.getStatus().is5xxServerError()
+                                ? CompletionContext.Status.FAILED
+                                : CompletionContext.Status.SUCCESS))
+                .doOnError(e -> tracker.onDirectComplete(instance, 0, CompletionContext.Status.FAILED))
+                .doOnCancel(() -> tracker.onDirectComplete(instance, 0, CompletionContext.Status.DISCARD))
+                // 5xx 헤지 응답은 원 요청 결과를 기다림
+                .filter(cached -> !cached.getStatus().is5xxServerError())
+                .map(cached -> new Result(null, cached, null));
+    }
+
+    private Duration responseTimeout(Route route) {
+        Object value = route.getMetadata().get("response-timeout");
+        return value != null ? Duration.ofMillis(Long.parseLong(value.toString())) : defaultResponseTimeout;
+    }
+
+    private boolean sameInstance(ServiceInstance a, ServiceInstance b) {
+        return a.getHost().equals(b.getHost()) && a.getPort() == b.getPort();
+    }
+
+    // body: 원 요청이 받은 본문, hedged: 헤지 요청 응답, error: 원 요청 실패
+    private record Result(byte[] body, CachedResponse hedged, Throwable error) {
+    }
+
+    private class RouteHedge {
+        private final LatencyWindow window = new LatencyWindow(WINDOW_SIZE);
+        // 요청마다 maxHedgePercent / 100 만큼 적립, 헤지 1회마다 1 차감
+        private final RetryBudget budget;
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong wins = new AtomicLong();
+
+        RouteHedge(String routeId, Config config) {
+            this.budget = new RetryBudget(config.getMaxHedgePercent() / 100.0, 0, 10);
+            FunctionCounter.builder("gateway.hedge.sent", sent, AtomicLong::get)
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            FunctionCounter.builder("gateway.hedge.wins", wins, AtomicLong::get)
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            FunctionCounter.builder("gateway.hedge.budget.exhausted", budget, RetryBudget::getExhausted)
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.hedge.win.ratio", this, RouteHedge::winRatio)
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.hedge.threshold.ms", window,
+                            w -> TimeUnit.NANOSECONDS.toMillis(w.getCachedNanos()))
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        double winRatio() {
+            long total = sent.get();
+            return total == 0 ? 0 : (double) wins.get() / total;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private double percentile = 95;
+        private double maxHedgePercent = 10;
+        private long minDelayMillis = 20;
+    }
+}
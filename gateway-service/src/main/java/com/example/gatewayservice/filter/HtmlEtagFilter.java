@@ -0,0 +1,71 @@
+package com.example.gatewayservice.filter;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Thymeleaf 로 렌더링한 HTML 화면에 본문 해시 ETag 를 붙이고, If-None-Match 가 같으면 304 로 본문 전송 생략
+@Component
+public class HtmlEtagFilter implements WebFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())
+                || exchange.getRequest().getPath().value().startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                if (!isHtml(getDelegate())) {
+                    return super.writeWith(body);
+                }
+                return DataBufferUtils.join(Flux.from(body))
+                        .flatMap(joined -> {
+                            byte[] bytes = new byte[joined.readableByteCount()];
+                            joined.read(bytes);
+                            DataBufferUtils.release(joined);
+
+                            String etag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+                            HttpHeaders headers = getDelegate().getHeaders();
+                            headers.setETag(etag);
+                            headers.setCacheControl("no-cache");
+                            if (exchange.getRequest().getHeaders().getIfNoneMatch().contains(etag)) {
+                                getDelegate().setStatusCode(HttpStatus.NOT_MODIFIED);
+                                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                                return getDelegate().setComplete();
+                            }
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        });
+            }
+        };
+        return chain.filter(exchange.mutate().response(decorated).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 310;
+    }
+
+    private boolean isHtml(ServerHttpResponse response) {
+        MediaType contentType = response.getHeaders().getContentType();
+        return (response.getStatusCode() == null || HttpStatus.OK.equals(response.getStatusCode()))
+                && contentType != null
+                && MediaType.TEXT_HTML.isCompatibleWith(contentType);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.gatewayservice.filter;
+
+import com.example.gatewayservice.util.JwtUtil;
+import com.example.gatewayservice.util.TokenClaims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_ROLE_HEADER = "X-User-Role";
+    // 브라우저 EventSource 는 Authorization 헤더를 보낼 수 없어 스트리밍 라우트에서만 쿼리 파라미터 토큰 허용
+    public static final String ACCESS_TOKEN_PARAM = "access_token";
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${gateway.auth.public-paths:/api/auth/**}")
+    private List<String> publicPaths;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+
+        // 클라이언트가 임의로 보낸 사용자 헤더는 항상 제거
+        if (HttpMethod.OPTIONS.equals(request.getMethod()) || isPublic(path)) {
+            return chain.filter(exchange.mutate().request(stripUserHeaders(request)).build());
+        }
+
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String token;
+        if (header != null && header.startsWith("Bearer ")) {
+            token = header.substring(7);
+        } else if (isStreaming(exchange) && request.getQueryParams().getFirst(ACCESS_TOKEN_PARAM) != null) {
+            token = request.getQueryParams().getFirst(ACCESS_TOKEN_PARAM);
+        } else {
+            return unauthorized(exchange);
+        }
+
+        TokenClaims claims;
+        try {
+            claims = jwtUtil.parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return unauthorized(exchange);
+        }
+        if (claims.isExpired()) {
+            return unauthorized(exchange);
+        }
+
+        // 검증된 클레임을 하위 서비스로 전달 (하위 서비스는 토큰을 다시 파싱하지 않음)
+        // 쿼리 파라미터 토큰은 하위 서비스 접근 로그에 남지 않도록 제거
+        ServerHttpRequest mutated = request.mutate()
+                .uri(UriComponentsBuilder.fromUri(request.getURI())
+                        .replaceQueryParam(ACCESS_TOKEN_PARAM)
+                        .build(true)
+                        .toUri())
+                .headers(headers -> {
+                    headers.remove(USER_ID_HEADER);
+                    headers.remove(USER_ROLE_HEADER);
+                    headers.set(USER_ID_HEADER, claims.getUsername());
+                    if (claims.getRole() != null) {
+                        headers.set(USER_ROLE_HEADER, claims.getRole());
+                    }
+                })
+                .build();
+        return chain.filter(exchange.mutate().request(mutated).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // 로드밸런싱 및 라우팅 필터보다 먼저 실행되어 하위 연결 전에 차단
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    private boolean isStreaming(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null && Boolean.parseBoolean(String.valueOf(route.getMetadata().get("streaming")));
+    }
+
+    private boolean isPublic(String path) {
+        for (String pattern : publicPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ServerHttpRequest stripUserHeaders(ServerHttpRequest request) {
+        return request.mutate()
+                .headers(headers -> {
+                    headers.remove(USER_ID_HEADER);
+                    headers.remove(USER_ROLE_HEADER);
+                })
+                .build();
+    }
+
+    private Mono<Void> unauthorized(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        return exchange.getResponse().setComplete();
+    }
+}
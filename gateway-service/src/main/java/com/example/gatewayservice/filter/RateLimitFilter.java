@@ -0,0 +1,168 @@
+package com.example.gatewayservice.filter;
+
+import com.example.gatewayservice.limiter.ClientRateLimiter;
+import com.example.gatewayservice.limiter.RateLimitProperties;
+import com.example.gatewayservice.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 클라이언트별 토큰 버킷 요청 제한 (JWT subject, 익명 요청은 클라이언트 IP 기준, 프록시 뒤에서는 trusted-proxy-hops 로 원본 IP 확인)
+// 게이트웨이 라우트뿐 아니라 /api/auth/login 같은 게이트웨이 자체 API 에도 적용되도록 WebFilter 로 구현
+@Component
+public class RateLimitFilter implements WebFilter, Ordered {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<ClientRateLimiter> limiters = new ArrayList<>();
+
+    @PostConstruct
+    void init() {
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            if (policy.getName() == null) {
+                policy.setName(policy.getPath());
+            }
+            limiters.add(new ClientRateLimiter(policy, properties.getMaxKeys(), meterRegistry));
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || HttpMethod.OPTIONS.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        ClientRateLimiter limiter = limiterFor(request.getPath().value());
+        if (limiter == null) {
+            return chain.filter(exchange);
+        }
+
+        long result = limiter.tryConsume(clientKey(request));
+        ServerHttpResponse response = exchange.getResponse();
+        if (result < 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(-result) + 1);
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set(REMAINING_HEADER, "0");
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return response.setComplete();
+        }
+        response.getHeaders().set(REMAINING_HEADER, String.valueOf(result));
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+
+    private ClientRateLimiter limiterFor(String path) {
+        for (ClientRateLimiter limiter : limiters) {
+            if (pathMatcher.match(limiter.getPolicy().getPath(), path)) {
+                return limiter;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            try {
+                return "user:" + jwtUtil.parseToken(header.substring(7)).getUsername();
+            } catch (JwtException | IllegalArgumentException e) {
+                // 유효하지 않은 토큰은 익명 요청으로 취급
+            }
+        }
+        String forwarded = forwardedClientIp(request);
+        if (forwarded != null) {
+            return "ip:" + forwarded;
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        String ip = remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : "unknown";
+        return "ip:" + ip;
+    }
+
+    // 신뢰하는 프록시가 기록한 클라이언트 IP (프록시 뒤가 아니거나 헤더가 없으면 null)
+    // 각 프록시는 자신이 본 주소를 목록 끝에 추가하므로 오른쪽에서 trusted-proxy-hops 번째가 가장 바깥 프록시가 본 클라이언트
+    private String forwardedClientIp(ServerHttpRequest request) {
+        int hops = properties.getTrustedProxyHops();
+        if (hops <= 0) {
+            return null;
+        }
+        List<String> addresses = new ArrayList<>();
+        List<String> xff = request.getHeaders().get("X-Forwarded-For");
+        if (xff != null) {
+            xff.forEach(value -> addAll(addresses, value));
+        } else {
+            List<String> forwarded = request.getHeaders().get("Forwarded");
+            if (forwarded != null) {
+                forwarded.forEach(value -> addForwardedFor(addresses, value));
+            }
+        }
+        if (addresses.isEmpty()) {
+            return null;
+        }
+        return addresses.get(Math.max(0, addresses.size() - hops));
+    }
+
+    private void addAll(List<String> addresses, String value) {
+        for (String address : value.split(",")) {
+            if (!address.isBlank()) {
+                addresses.add(address.trim());
+            }
+        }
+    }
+
+    // Forwarded: for=192.0.2.60;proto=http, for="[2001:db8::1]:4711"
+    private void addForwardedFor(List<String> addresses, String value) {
+        for (String element : value.split(",")) {
+            for (String pair : element.split(";")) {
+                String[] parts = pair.trim().split("=", 2);
+                if (parts.length == 2 && "for".equals(parts[0].trim().toLowerCase(Locale.ROOT))) {
+                    addresses.add(stripPort(parts[1].trim().replace("\"", "")));
+                }
+            }
+        }
+    }
+
+    private String stripPort(String node) {
+        if (node.startsWith("[")) {
+            int end = node.indexOf(']');
+            return end > 0 ? node.substring(1, end) : node;
+        }
+        int colon = node.indexOf(':');
+        return colon > 0 && colon == node.lastIndexOf(':') ? node.substring(0, colon) : node;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.gatewayservice.filter;
+
+import com.example.gatewayservice.cache.CachedResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 동시에 들어온 동일한 GET 요청을 하나의 하위 호출로 합치고 응답을 모든 대기자에게 전달
+// 사용자별로 응답이 달라지지 않는 라우트에만 설정
+// 예: spring.cloud.gateway.routes[0].filters[1]=RequestCoalescing=2000
+@Component
+public class RequestCoalescingGatewayFilterFactory extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    public static final String COALESCED_HEADER = "X-Coalesced";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescingGatewayFilterFactory() {
+        super(Config.class);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return Collections.singletonList("maxWaitMillis");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (route == null || !HttpMethod.GET.equals(request.getMethod())) {
+                return chain.filter(exchange);
+            }
+            String routeId = route.getId();
+            String query = request.getURI().getRawQuery();
+            String key = routeId + " " + request.getPath().value() + (query == null ? "" : "?" + query);
+
+            Sinks.One<CachedResponse> sink = Sinks.one();
+            Sinks.One<CachedResponse> leader = inFlight.putIfAbsent(key, sink);
+
+            if (leader != null) {
+                // 이미 진행 중인 요청의 응답을 제한 시간 동안 기다림, 실패 시 직접 호출
+                return leader.asMono()
+                        .timeout(Duration.ofMillis(config.getMaxWaitMillis()))
+                        .onErrorResume(e -> Mono.empty())
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(shared -> {
+                            if (shared.isEmpty()) {
+                                count("gateway.coalescing.fallbacks", routeId);
+                                return chain.filter(exchange);
+                            }
+                            count("gateway.coalescing.coalesced", routeId);
+                            exchange.getResponse().getHeaders().set(COALESCED_HEADER, "true");
+                            return shared.get().writeTo(exchange.getResponse());
+                        });
+            }
+
+            count("gateway.coalescing.leaders", routeId);
+            ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(exchange.getResponse()) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    return DataBufferUtils.join(Flux.from(body))
+                            .flatMap(joined -> {
+                                byte[] bytes = new byte[joined.readableByteCount()];
+                                joined.read(bytes);
+                                DataBufferUtils.release(joined);
+
+                                HttpStatusCode status = getDelegate().getStatusCode();
+                                inFlight.remove(key, sink);
+                                sink.tryEmitValue(new CachedResponse(
+                                        status != null ? status : HttpStatus.OK,
+                                        CachedResponse.reusableHeaders(getDelegate().getHeaders()),
+                                        bytes, 0L));
+                                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                            });
+                }
+            };
+            return chain.filter(exchange.mutate().response(decorated).build())
+                    .doFinally(signal -> {
+                        // 본문 없이 끝났거나 실패한 경우 대기자는 각자 하위 서비스를 호출
+                        inFlight.remove(key, sink);
+                        sink.tryEmitEmpty();
+                    });
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private void count(String name, String routeId) {
+        meterRegistry.counter(name, "route", routeId).increment();
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private long maxWaitMillis = 2000;
+    }
+}
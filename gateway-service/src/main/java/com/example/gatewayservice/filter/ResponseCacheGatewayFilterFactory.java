@@ -0,0 +1,124 @@
+package com.example.gatewayservice.filter;
+
+import com.example.gatewayservice.cache.CachedResponse;
+import com.example.gatewayservice.cache.ResponseCacheManager;
+import com.example.gatewayservice.cache.RouteResponseCache;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 멱등 GET 응답을 경로+쿼리 기준으로 캐시하는 라우트 필터
+// 예: spring.cloud.gateway.routes[0].filters[0]=ResponseCache=60,10485760
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_HEADER = "X-Cache";
+
+    @Autowired
+    private ResponseCacheManager cacheManager;
+
+    public ResponseCacheGatewayFilterFactory() {
+        super(Config.class);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return Arrays.asList("ttlSeconds", "maxBytes");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // 응답 본문을 가로채려면 NettyWriteResponseFilter 보다 먼저 응답을 감싸야 함
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (route == null) {
+                return chain.filter(exchange);
+            }
+            RouteResponseCache cache = cacheManager.cacheFor(
+                    route.getId(), config.getTtlSeconds() * 1000, config.getMaxBytes());
+            ServerHttpRequest request = exchange.getRequest();
+
+            // 변경 요청이 지나가면 해당 라우트 캐시를 즉시 비움
+            if (!HttpMethod.GET.equals(request.getMethod())) {
+                cache.invalidateAll();
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(request);
+            CachedResponse cached = cache.get(key);
+            ServerHttpResponse response = exchange.getResponse();
+            if (cached != null) {
+                response.getHeaders().set(CACHE_HEADER, "HIT");
+                return cached.writeTo(response);
+            }
+
+            long generation = cache.currentGeneration();
+            response.getHeaders().set(CACHE_HEADER, "MISS");
+            ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(response) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    if (!isCacheable(getDelegate())) {
+                        return super.writeWith(body);
+                    }
+                    return DataBufferUtils.join(Flux.from(body))
+                            .flatMap(joined -> {
+                                byte[] bytes = new byte[joined.readableByteCount()];
+                                joined.read(bytes);
+                                DataBufferUtils.release(joined);
+
+                                cache.put(key, generation, HttpStatus.OK, CachedResponse.reusableHeaders(getDelegate().getHeaders()), bytes);
+                                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                            });
+                }
+            };
+            return chain.filter(exchange.mutate().response(decorated).build());
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private String cacheKey(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String path = request.getPath().value();
+        return query == null ? path : path + "?" + query;
+    }
+
+    private boolean isCacheable(ServerHttpResponse response) {
+        if (!HttpStatus.OK.equals(response.getStatusCode())) {
+            return false;
+        }
+        HttpHeaders headers = response.getHeaders();
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null
+                || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private long ttlSeconds = 60;
+        private long maxBytes = 10 * 1024 * 1024;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.gatewayservice.filter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.resource.ResourceUrlProvider;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.regex.Pattern;
+
+// 정적 리소스 캐시 정책
+// - 템플릿의 @{/js/..} 링크를 내용 해시가 붙은 URL 로 변환 (spring.web.resources.chain.strategy.content)
+// - 해시가 붙은 URL 은 내용이 바뀌면 URL 도 바뀌므로 1년 immutable 캐시, 나머지는 매번 재검증
+@Component
+public class StaticResourceCacheFilter implements WebFilter, Ordered {
+
+    public static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // VersionResourceResolver 의 content 전략이 만드는 파일명 (예: orders-5f2b...e1.js)
+    private static final Pattern FINGERPRINTED = Pattern.compile(".+-[0-9a-f]{32}\\.(js|css)$");
+    private static final Pattern STATIC_ASSET = Pattern.compile("^/(css|js)/.+");
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // 리소스 URL 조회는 CachingResourceResolver 로 메모리에서 동기 완료됨, 아직 결과가 없으면 원래 URL 사용
+        exchange.addUrlTransformer(url -> {
+            if (!STATIC_ASSET.matcher(url).matches()) {
+                return url;
+            }
+            String versioned = resourceUrlProvider.getForUriString(url, exchange).toFuture().getNow(null);
+            return versioned != null ? versioned : url;
+        });
+
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        if (HttpMethod.GET.equals(request.getMethod()) && STATIC_ASSET.matcher(path).matches()) {
+            exchange.getResponse().getHeaders().set(HttpHeaders.CACHE_CONTROL,
+                    FINGERPRINTED.matcher(path).matches() ? IMMUTABLE_CACHE_CONTROL : "no-cache");
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 300;
+    }
+}
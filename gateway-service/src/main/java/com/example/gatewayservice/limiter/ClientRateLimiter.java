@@ -0,0 +1,91 @@
+package com.example.gatewayservice.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 정책 하나에 대한 클라이언트 키별 토큰 버킷 저장소 (키 수 제한)
+public class ClientRateLimiter {
+
+    // 전체 키를 훑는 유휴 버킷 정리의 최소 간격
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // 정리 후에도 가득 차 있으면 한 번에 제거할 키 비율 (새 키마다 정리가 반복되지 않도록 여유 확보)
+    private static final int EVICT_DIVISOR = 10;
+
+    private final RateLimitProperties.Policy policy;
+    private final int maxKeys;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    // sweeping 플래그를 잡은 스레드만 읽고 씀
+    private long lastSweepAt = System.nanoTime() - SWEEP_INTERVAL_NANOS;
+
+    private final Counter allowed;
+    private final Counter rejected;
+
+    public ClientRateLimiter(RateLimitProperties.Policy policy, int maxKeys, MeterRegistry meterRegistry) {
+        this.policy = policy;
+        this.maxKeys = maxKeys;
+        this.allowed = Counter.builder("gateway.ratelimit.allowed")
+                .tag("policy", policy.getName())
+                .register(meterRegistry);
+        this.rejected = Counter.builder("gateway.ratelimit.rejected")
+                .tag("policy", policy.getName())
+                .register(meterRegistry);
+        Gauge.builder("gateway.ratelimit.keys", buckets, Map::size)
+                .tag("policy", policy.getName())
+                .register(meterRegistry);
+    }
+
+    public long tryConsume(String key) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                sweep(now);
+            }
+            bucket = buckets.computeIfAbsent(key,
+                    k -> new TokenBucket(policy.getReplenishRate(), policy.getBurstCapacity()));
+        }
+        long result = bucket.tryConsume(now);
+        if (result >= 0) {
+            allowed.increment();
+        } else {
+            rejected.increment();
+        }
+        return result;
+    }
+
+    public RateLimitProperties.Policy getPolicy() {
+        return policy;
+    }
+
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // 가득 찬(유휴) 버킷 정리는 O(maxKeys) 스캔이라 이벤트 루프에서 최소 간격마다 한 번만 수행
+            if (now - lastSweepAt >= SWEEP_INTERVAL_NANOS) {
+                lastSweepAt = now;
+                buckets.values().removeIf(bucket -> bucket.isFull(now));
+            }
+            // 그래도 넘치면 키의 일부를 한꺼번에 제거 (해당 클라이언트는 새 버킷으로 시작)
+            if (buckets.size() >= maxKeys) {
+                int target = maxKeys - Math.max(1, maxKeys / EVICT_DIVISOR);
+                Iterator<String> it = buckets.keySet().iterator();
+                while (buckets.size() > target && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
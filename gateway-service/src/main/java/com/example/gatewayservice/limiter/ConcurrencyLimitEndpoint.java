@@ -0,0 +1,33 @@
+package com.example.gatewayservice.limiter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// /actuator/concurrencylimits : 라우트별 현재 한도, 처리 중 요청, 차단 수
+@Component
+@Endpoint(id = "concurrencylimits")
+public class ConcurrencyLimitEndpoint {
+
+    @Autowired
+    private ConcurrencyLimiterRegistry registry;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> limits() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        registry.getLimiters().forEach((routeId, limiter) -> {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("limit", limiter.getLimit());
+            state.put("inFlight", limiter.getInFlight());
+            state.put("shed", limiter.getShed());
+            state.put("longRttMillis", limiter.getLongRttMillis());
+            result.put(routeId, state);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.gatewayservice.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 라우트별 동시성 제한기 보관
+@Component
+public class ConcurrencyLimiterRegistry {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${gateway.concurrency-limit.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${gateway.concurrency-limit.min-limit:2}")
+    private int minLimit;
+
+    @Value("${gateway.concurrency-limit.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${gateway.concurrency-limit.rtt-tolerance:2.0}")
+    private double rttTolerance;
+
+    @Value("${gateway.concurrency-limit.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter limiterFor(String routeId) {
+        return limiters.computeIfAbsent(routeId, id -> {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    initialLimit, minLimit, maxLimit, rttTolerance, backoffRatio);
+            Gauge.builder("gateway.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            FunctionCounter.builder("gateway.concurrency.shed", limiter, AdaptiveConcurrencyLimiter::getShed)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            return limiter;
+        });
+    }
+
+    public Map<String, AdaptiveConcurrencyLimiter> getLimiters() {
+        return limiters;
+    }
+}
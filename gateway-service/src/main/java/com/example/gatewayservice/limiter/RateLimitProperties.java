@@ -0,0 +1,38 @@
+package com.example.gatewayservice.limiter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 정책별 최대 추적 키 수 (초과 시 가득 찬 버킷부터 정리)
+    private int maxKeys = 100000;
+
+    // 게이트웨이 앞단의 신뢰하는 프록시(ingress, L7 로드밸런서) 수
+    // 0 이면 연결 주소를 그대로 사용, N 이면 X-Forwarded-For(없으면 Forwarded)의 오른쪽에서 N 번째 주소를 클라이언트 IP 로 사용
+    // (그보다 왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로 사용하지 않음)
+    private int trustedProxyHops = 0;
+
+    // 경로 패턴별 정책, 먼저 일치하는 정책 하나만 적용
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private String name;
+        private String path;
+        private double replenishRate = 10;
+        private int burstCapacity = 20;
+    }
+}
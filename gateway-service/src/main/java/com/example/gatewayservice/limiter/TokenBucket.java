@@ -0,0 +1,36 @@
+package com.example.gatewayservice.limiter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 락 없는 토큰 버킷 (GCRA: 다음 토큰이 보충될 이론적 시각 하나만 CAS 로 갱신)
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(double replenishRatePerSecond, int burstCapacity) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / replenishRatePerSecond);
+        this.burstWindowNanos = emissionIntervalNanos * burstCapacity;
+    }
+
+    // 허용되면 남은 토큰 수(0 이상), 거절되면 -(다음 토큰까지 남은 나노초) 를 반환
+    public long tryConsume(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            long backlog = newTat - now;
+            if (backlog > burstWindowNanos) {
+                return -Math.max(1, backlog - burstWindowNanos);
+            }
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                return (burstWindowNanos - backlog) / emissionIntervalNanos;
+            }
+        }
+    }
+
+    // 버킷이 가득 찬 상태면 상태가 없는 것과 같으므로 제거해도 됨
+    public boolean isFull(long now) {
+        return theoreticalArrival.get() <= now;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.gatewayservice.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// lb:// 요청의 시작/종료 시점을 받아 인스턴스별 지연시간과 처리 중 요청 수를 추적
+@Component
+public class InstanceLatencyTracker implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    @Value("${gateway.loadbalancer.decay-ms:10000}")
+    private long decayMs;
+
+    @Value("${gateway.loadbalancer.warmup-ms:30000}")
+    private long warmupMs;
+
+    @Value("${gateway.loadbalancer.default-rtt-ms:50}")
+    private long defaultRttMs;
+
+    @Value("${gateway.loadbalancer.failure-penalty-ms:1000}")
+    private long failurePenaltyMs;
+
+    @Value("${gateway.loadbalancer.reported-load-stale-ms:30000}")
+    private long reportedLoadStaleMs;
+
+    @Value("${gateway.loadbalancer.backlog-scale:100}")
+    private double backlogScale;
+
+    private final Map<String, Map<String, InstanceStats>> services = new ConcurrentHashMap<>();
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (isStream(request.getContext())) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext) {
+            ((TimedRequestContext) request.getContext()).setRequestStartTime(System.nanoTime());
+        }
+        if (lbResponse.hasServer()) {
+            statsFor(lbResponse.getServer()).start();
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()
+                || completionContext.status() == CompletionContext.Status.DISCARD
+                || isStream(completionContext.getLoadBalancerRequest().getContext())) {
+            return;
+        }
+        InstanceStats stats = statsFor(lbResponse.getServer());
+        stats.finish();
+
+        long rtt;
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            rtt = TimeUnit.MILLISECONDS.toNanos(failurePenaltyMs);
+        } else {
+            Object context = completionContext.getLoadBalancerRequest().getContext();
+            if (!(context instanceof TimedRequestContext)) {
+                return;
+            }
+            long startedAt = ((TimedRequestContext) context).getRequestStartTime();
+            if (startedAt <= 0) {
+                return;
+            }
+            rtt = System.nanoTime() - startedAt;
+        }
+        stats.record(rtt, TimeUnit.MILLISECONDS.toNanos(decayMs));
+    }
+
+    // 스트리밍 라우트(metadata.streaming=true)처럼 오래 유지되는 응답은 응답시간/처리 중 요청 수 통계에서 제외
+    // RequestData 에는 게이트웨이 exchange 속성이 담겨 있어 매칭된 라우트를 알 수 있음
+    private boolean isStream(Object context) {
+        if (!(context instanceof RequestDataContext) || ((RequestDataContext) context).getClientRequest() == null) {
+            return false;
+        }
+        Map<String, Object> attributes = ((RequestDataContext) context).getClientRequest().getAttributes();
+        Object route = attributes != null ? attributes.get(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR) : null;
+        return route instanceof Route
+                && Boolean.parseBoolean(String.valueOf(((Route) route).getMetadata().get("streaming")));
+    }
+
+    // 로드밸런서를 거치지 않고 직접 보낸 요청(헤지 요청)도 같은 통계에 반영
+    public void onDirectStart(ServiceInstance instance) {
+        statsFor(instance).start();
+    }
+
+    public void onDirectComplete(ServiceInstance instance, long rttNanos, CompletionContext.Status status) {
+        InstanceStats stats = statsFor(instance);
+        stats.finish();
+        if (status == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        long rtt = status == CompletionContext.Status.FAILED
+                ? TimeUnit.MILLISECONDS.toNanos(failurePenaltyMs)
+                : rttNanos;
+        stats.record(rtt, TimeUnit.MILLISECONDS.toNanos(decayMs));
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    // 부하 비용 = EWMA x (처리 중 요청 + 1) x 서버 보고 부하, 워밍업 중인 인스턴스는 비용을 높게 계산 (slow start)
+    public double cost(ServiceInstance instance) {
+        InstanceStats stats = statsFor(instance);
+        ReportedLoad reported = ReportedLoad.from(instance);
+        if (reported.getSequence() >= 0
+                && !stats.isLoadReportFresh(reported.getSequence(), TimeUnit.MILLISECONDS.toNanos(reportedLoadStaleMs))) {
+            reported = ReportedLoad.none();
+        }
+        // 다른 게이트웨이 복제본의 요청까지 포함된 서버 측 처리 중 요청 수를 함께 고려
+        int inFlight = Math.max(stats.getInFlight(), reported.getInFlight());
+        double cost = stats.getEwmaNanos() * (inFlight + 1) * reported.factor(backlogScale);
+        long age = System.currentTimeMillis() - stats.getFirstSeenAt();
+        if (warmupMs > 0 && age < warmupMs) {
+            double weight = Math.max(0.1, (double) age / warmupMs);
+            cost = cost / weight;
+        }
+        return cost;
+    }
+
+    // 목록에서 사라진 인스턴스의 통계 정리
+    public void retain(String serviceId, List<ServiceInstance> instances) {
+        Map<String, InstanceStats> stats = services.get(serviceId);
+        if (stats == null) {
+            return;
+        }
+        Set<String> keys = instances.stream().map(this::key).collect(Collectors.toSet());
+        stats.keySet().retainAll(keys);
+    }
+
+    private InstanceStats statsFor(ServiceInstance instance) {
+        Map<String, InstanceStats> stats = services.computeIfAbsent(
+                instance.getServiceId(), id -> new ConcurrentHashMap<>());
+        return stats.computeIfAbsent(key(instance), k -> new InstanceStats(initialEwma(stats.values())));
+    }
+
+    // 새 인스턴스는 같은 서비스 인스턴스들의 평균 지연시간으로 시작
+    private double initialEwma(Collection<InstanceStats> existing) {
+        return existing.stream()
+                .mapToDouble(InstanceStats::getEwmaNanos)
+                .average()
+                .orElse(TimeUnit.MILLISECONDS.toNanos(defaultRttMs));
+    }
+
+    private String key(ServiceInstance instance) {
+        return instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.gatewayservice.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 인스턴스 하나의 지연시간 EWMA 와 처리 중인 요청 수
+public class InstanceStats {
+
+    private final long firstSeenAt;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private double ewmaNanos;
+    private long lastUpdatedAt;
+
+    // 마지막으로 관찰한 부하 보고 순번과 그 순번이 처음 보인 시각 (게이트웨이 nanoTime)
+    private long lastLoadSequence = -1;
+    private long loadSequenceSeenAt;
+
+    public InstanceStats(double initialEwmaNanos) {
+        this.firstSeenAt = System.currentTimeMillis();
+        this.ewmaNanos = initialEwmaNanos;
+        this.lastUpdatedAt = System.nanoTime();
+    }
+
+    public void start() {
+        inFlight.incrementAndGet();
+    }
+
+    public void finish() {
+        inFlight.updateAndGet(n -> n > 0 ? n - 1 : 0);
+    }
+
+    // 시간 감쇠 EWMA, 급격한 지연 증가는 즉시 반영 (peak EWMA)
+    public synchronized void record(long rttNanos, long decayNanos) {
+        long now = System.nanoTime();
+        if (rttNanos > ewmaNanos) {
+            ewmaNanos = rttNanos;
+        } else {
+            double weight = Math.exp(-(double) (now - lastUpdatedAt) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + rttNanos * (1 - weight);
+        }
+        lastUpdatedAt = now;
+    }
+
+    // 보고 순번이 바뀌면 새 보고로 기록, 같은 순번이 staleNanos 넘게 이어지면 오래된 보고로 판단
+    public synchronized boolean isLoadReportFresh(long sequence, long staleNanos) {
+        long now = System.nanoTime();
+        if (sequence != lastLoadSequence) {
+            lastLoadSequence = sequence;
+            loadSequenceSeenAt = now;
+            return true;
+        }
+        return now - loadSequenceSeenAt <= staleNanos;
+    }
+
+    public synchronized double getEwmaNanos() {
+        return ewmaNanos;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getFirstSeenAt() {
+        return firstSeenAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.gatewayservice.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.Map;
+
+// 각 서비스가 Eureka 메타데이터로 게시한 부하 정보 (LoadMetadataReporter)
+public class ReportedLoad {
+
+    private static final ReportedLoad NONE = new ReportedLoad(-1, 0, 0.0, 0);
+
+    // 보고 순번 (보고할 때마다 증가, -1 이면 보고 없음)
+    private final long sequence;
+    private final int inFlight;
+    private final double threadUtilization;
+    private final int queueBacklog;
+
+    private ReportedLoad(long sequence, int inFlight, double threadUtilization, int queueBacklog) {
+        this.sequence = sequence;
+        this.inFlight = inFlight;
+        this.threadUtilization = threadUtilization;
+        this.queueBacklog = queueBacklog;
+    }
+
+    // 신선도는 보고 시각(다른 호스트의 시계) 대신 loadSeq 변화를 게이트웨이 시계로 관찰해 판단 (InstanceStats)
+    public static ReportedLoad from(ServiceInstance instance) {
+        Map<String, String> metadata = instance.getMetadata();
+        if (metadata == null || metadata.get("loadSeq") == null) {
+            return NONE;
+        }
+        try {
+            return new ReportedLoad(
+                    Long.parseLong(metadata.get("loadSeq")),
+                    Integer.parseInt(metadata.getOrDefault("loadInFlight", "0")),
+                    Double.parseDouble(metadata.getOrDefault("loadThreadUtilization", "0")),
+                    Integer.parseInt(metadata.getOrDefault("loadQueueBacklog", "0")));
+        } catch (NumberFormatException e) {
+            return NONE;
+        }
+    }
+
+    public static ReportedLoad none() {
+        return NONE;
+    }
+
+    // 스레드 사용률이 높을수록 급격히 커지는 가중치 (1 / (1 - 사용률)), 큐 적체는 선형 가중
+    public double factor(double backlogScale) {
+        double utilization = Math.min(Math.max(threadUtilization, 0.0), 0.95);
+        return (1.0 / (1.0 - utilization)) * (1.0 + queueBacklog / backlogScale);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.gatewayservice.messaging;
+
+import com.example.gatewayservice.cache.ResponseCacheManager;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class InventoryEventListener {
+
+    @Autowired
+    private ResponseCacheManager cacheManager;
+
+    @Value("${gateway.response-cache.invalidate-routes:product-service}")
+    private List<String> invalidateRoutes;
+
+    // 게이트웨이 인스턴스마다 전용 큐로 수신하므로 모든 복제본의 캐시가 무효화됨
+    @RabbitListener(queues = "#{gatewayInventoryQueue.name}")
+    public void handleInventoryUpdated(Map<String, Object> event) {
+        for (String routeId : invalidateRoutes) {
+            cacheManager.invalidate(routeId);
+        }
+        System.out.println("상품 변경 이벤트 수신, 응답 캐시 무효화: " + event.get("productId"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.gatewayservice.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 최근 N 개 응답시간 표본으로 백분위수 계산 (1초에 한 번만 다시 계산)
+public class LatencyWindow {
+
+    private static final int MIN_SAMPLES = 100;
+    private static final long RECOMPUTE_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+
+    private volatile long cachedNanos = -1;
+    private volatile long computedAt;
+
+    public LatencyWindow(int size) {
+        this.samples = new AtomicLongArray(size);
+    }
+
+    public void record(long latencyNanos) {
+        int index = (int) (count.getAndIncrement() % samples.length());
+        samples.set(index, latencyNanos);
+    }
+
+    // 표본이 부족하면 -1
+    public long percentileNanos(double percentile) {
+        long now = System.nanoTime();
+        if (cachedNanos >= 0 && now - computedAt < RECOMPUTE_INTERVAL_NANOS) {
+            return cachedNanos;
+        }
+        int size = (int) Math.min(count.get(), samples.length());
+        if (size < MIN_SAMPLES) {
+            return -1;
+        }
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        cachedNanos = sorted[Math.max(0, Math.min(size - 1, rank))];
+        computedAt = now;
+        return cachedNanos;
+    }
+
+    public long getCachedNanos() {
+        return cachedNanos;
+    }
+}
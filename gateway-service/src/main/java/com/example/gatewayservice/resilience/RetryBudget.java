@@ -0,0 +1,63 @@
+package com.example.gatewayservice.resilience;
+
+import com.example.gatewayservice.limiter.TokenBucket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 재시도 예산: 요청마다 ratio 만큼 적립하고 재시도 1회마다 1 을 차감
+// 적립금이 없으면 초당 최소 재시도 수만 허용해서 장애 시 재시도가 부하를 증폭시키지 않도록 함
+public class RetryBudget {
+
+    private static final long UNIT = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final TokenBucket reserve;
+
+    private final AtomicLong balance = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    public RetryBudget(double ratio, double minRetriesPerSecond, int maxBalance) {
+        this.depositPerRequest = (long) (ratio * UNIT);
+        this.maxBalance = maxBalance * UNIT;
+        this.reserve = minRetriesPerSecond > 0
+                ? new TokenBucket(minRetriesPerSecond, (int) Math.max(1, Math.ceil(minRetriesPerSecond)))
+                : null;
+    }
+
+    public void onRequest() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBalance, current + deposit));
+    }
+
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < UNIT) {
+                break;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                retries.incrementAndGet();
+                return true;
+            }
+        }
+        if (reserve != null && reserve.tryConsume(System.nanoTime()) >= 0) {
+            retries.incrementAndGet();
+            return true;
+        }
+        exhausted.incrementAndGet();
+        return false;
+    }
+
+    public double getBalance() {
+        return (double) balance.get() / UNIT;
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    public long getExhausted() {
+        return exhausted.get();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.gatewayservice.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 라우트별 재시도 예산 보관
+@Component
+public class RetryBudgetRegistry {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${gateway.retry-budget.ratio:0.1}")
+    private double ratio;
+
+    @Value("${gateway.retry-budget.min-retries-per-second:1}")
+    private double minRetriesPerSecond;
+
+    @Value("${gateway.retry-budget.max-balance:100}")
+    private int maxBalance;
+
+    private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+
+    public RetryBudget budgetFor(String routeId) {
+        return budgets.computeIfAbsent(routeId, id -> {
+            RetryBudget budget = new RetryBudget(ratio, minRetriesPerSecond, maxBalance);
+            FunctionCounter.builder("gateway.retry.attempts", budget, RetryBudget::getRetries)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            FunctionCounter.builder("gateway.retry.budget.exhausted", budget, RetryBudget::getExhausted)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.retry.budget.balance", budget, RetryBudget::getBalance)
+                    .tag("route", id)
+                    .register(meterRegistry);
+            return budget;
+        });
+    }
+}
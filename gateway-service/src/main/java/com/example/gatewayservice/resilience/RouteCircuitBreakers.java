@@ -0,0 +1,98 @@
+package com.example.gatewayservice.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 라우트별 서킷 브레이커 (Resilience4j, CLOSED -> OPEN -> HALF_OPEN 탐색 후 복구)
+// 기본값은 gateway.circuit-breaker.* 에서, 라우트 metadata 로 개별 값을 덮어쓸 수 있음
+// 예: spring.cloud.gateway.routes[2].metadata.circuit-breaker-failure-rate-threshold=30
+@Component
+public class RouteCircuitBreakers {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${gateway.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${gateway.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    @Value("${gateway.circuit-breaker.slow-call-duration-ms:3000}")
+    private long slowCallDurationMs;
+
+    @Value("${gateway.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${gateway.circuit-breaker.minimum-number-of-calls:10}")
+    private int minimumNumberOfCalls;
+
+    @Value("${gateway.circuit-breaker.wait-duration-in-open-state-ms:10000}")
+    private long waitDurationInOpenStateMs;
+
+    @Value("${gateway.circuit-breaker.permitted-calls-in-half-open-state:3}")
+    private int permittedCallsInHalfOpenState;
+
+    private CircuitBreakerRegistry registry;
+
+    @PostConstruct
+    void init() {
+        registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    }
+
+    public CircuitBreaker breakerFor(Route route) {
+        return registry.find(route.getId()).orElseGet(() -> create(route));
+    }
+
+    private synchronized CircuitBreaker create(Route route) {
+        String routeId = route.getId();
+        CircuitBreaker existing = registry.find(routeId).orElse(null);
+        if (existing != null) {
+            return existing;
+        }
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(metadata(route, "circuit-breaker-failure-rate-threshold", failureRateThreshold))
+                .slowCallRateThreshold(metadata(route, "circuit-breaker-slow-call-rate-threshold", slowCallRateThreshold))
+                .slowCallDurationThreshold(Duration.ofMillis(
+                        (long) metadata(route, "circuit-breaker-slow-call-duration-ms", slowCallDurationMs)))
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(
+                        (long) metadata(route, "circuit-breaker-wait-duration-in-open-state-ms", waitDurationInOpenStateMs)))
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                // OPEN 대기 시간이 지나면 요청이 없어도 HALF_OPEN 으로 전환해서 탐색 요청을 받음
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+
+        CircuitBreaker breaker = registry.circuitBreaker(routeId, config);
+        breaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            meterRegistry.counter("gateway.circuitbreaker.transitions",
+                    "route", routeId,
+                    "from", transition.getFromState().name(),
+                    "to", transition.getToState().name()).increment();
+            System.out.println("서킷 브레이커 상태 변경: " + routeId + " " + transition);
+        });
+        return breaker;
+    }
+
+    public long getWaitDurationInOpenStateMs(CircuitBreaker breaker) {
+        return breaker.getCircuitBreakerConfig().getWaitIntervalFunctionInOpenState().apply(1);
+    }
+
+    private float metadata(Route route, String key, float defaultValue) {
+        Object value = route.getMetadata().get(key);
+        return value != null ? Float.parseFloat(value.toString()) : defaultValue;
+    }
+}
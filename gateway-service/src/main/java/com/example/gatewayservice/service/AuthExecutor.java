@@ -0,0 +1,90 @@
+package com.example.gatewayservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// BCrypt 해싱과 JPA 조회 같은 블로킹 인증 작업을 Netty 이벤트 루프 밖의 전용 스레드 풀에서 실행
+@Component
+public class AuthExecutor {
+
+    @Value("${auth.executor.threads:4}")
+    private int threads;
+
+    @Value("${auth.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+    private Timer waitTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "auth-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("gateway.auth.executor.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("gateway.auth.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        waitTimer = Timer.builder("gateway.auth.executor.wait")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("gateway.auth.executor.rejected")
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> execute(Callable<T> task) {
+        return Mono.create(sink -> {
+            long enqueuedAt = System.nanoTime();
+            try {
+                Future<?> future = executor.submit(() -> {
+                    waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                    try {
+                        sink.success(task.call());
+                    } catch (Throwable e) {
+                        sink.error(e);
+                    }
+                });
+                sink.onCancel(() -> future.cancel(false));
+            } catch (RejectedExecutionException e) {
+                // 대기열이 가득 차면 이벤트 루프를 막지 않고 즉시 거절
+                rejectedCounter.increment();
+                sink.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "인증 요청이 많아 처리할 수 없습니다."));
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.gatewayservice.service;
 
 import com.example.gatewayservice.dto.LoginRequest;
 import com.example.gatewayservice.dto.LoginResponse;
+import com.example.gatewayservice.dto.RegisterRequest;
 import com.example.gatewayservice.entity.User;
 import com.example.gatewayservice.repository.UserRepository;
 import com.example.gatewayservice.util.JwtUtil;
@@ -15,20 +16,39 @@ public class AuthService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     @Autowired
     private JwtUtil jwtUtil;
 
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     public LoginResponse login(LoginRequest loginRequest) {
-        User user = userRepository.findByUsername(loginRequest.getUsername())
+        User user = userCache.findByUsername(loginRequest.getUsername())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
-        String token = jwtUtil.generateToken(user.getUsername());
+        String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
         return new LoginResponse(token, user.getUsername(), user.getRole());
     }
+
+    public boolean register(RegisterRequest registerRequest) {
+        if (userCache.findByUsername(registerRequest.getUsername()).isPresent()) {
+            return false;
+        }
+
+        User user = new User();
+        user.setUsername(registerRequest.getUsername());
+        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
+        user.setEmail(registerRequest.getEmail());
+        user.setRole("USER");
+
+        userRepository.save(user);
+        userCache.invalidate(user.getUsername());
+        return true;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.example.gatewayservice.service;
+
+import com.example.gatewayservice.dto.OrderView;
+import com.example.gatewayservice.filter.JwtAuthenticationFilter;
+import com.example.gatewayservice.util.TokenClaims;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+// 주문을 조회한 뒤 주문에 포함된 상품들을 동시에 조회해서 하나의 응답으로 합침
+// 상품 조회가 느리거나 실패하면 해당 상품만 빼고 부분 응답(partial)을 반환
+@Service
+public class OrderViewService {
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction;
+
+    @Value("${gateway.views.order-timeout-ms:2000}")
+    private long orderTimeoutMs;
+
+    @Value("${gateway.views.product-timeout-ms:1000}")
+    private long productTimeoutMs;
+
+    @Value("${gateway.views.product-concurrency:8}")
+    private int productConcurrency;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    void init() {
+        // 공용 WebClient.Builder 는 로드밸런싱 없이 쓰는 곳이 있으므로 복제해서 lb:// 필터를 추가
+        webClient = webClientBuilder.clone().filter(loadBalancerFunction).build();
+    }
+
+    public Mono<OrderView> getOrderView(Long orderId, TokenClaims claims) {
+        return webClient.get()
+                .uri("lb://order-service/api/orders/{id}", orderId)
+                .headers(headers -> setUserHeaders(headers, claims))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofMillis(orderTimeoutMs))
+                .onErrorMap(WebClientResponseException.NotFound.class,
+                        e -> new ResponseStatusException(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."))
+                .onErrorMap(TimeoutException.class,
+                        e -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "주문 서비스 응답이 지연되고 있습니다."))
+                .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                        e -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, "주문 서비스 호출에 실패했습니다.", e))
+                .flatMap(order -> {
+                    Set<Long> productIds = productIds(order);
+                    return Flux.fromIterable(productIds)
+                            .flatMap(productId -> fetchProduct(productId, claims), productConcurrency)
+                            .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new)
+                            .map(products -> {
+                                List<Long> unavailable = new ArrayList<>();
+                                for (Long productId : productIds) {
+                                    if (!products.containsKey(productId)) {
+                                        unavailable.add(productId);
+                                    }
+                                }
+                                return new OrderView(order, products, unavailable, !unavailable.isEmpty());
+                            });
+                });
+    }
+
+    private Mono<Map.Entry<Long, JsonNode>> fetchProduct(Long productId, TokenClaims claims) {
+        return webClient.get()
+                .uri("lb://product-service/api/products/{id}", productId)
+                .headers(headers -> setUserHeaders(headers, claims))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofMillis(productTimeoutMs))
+                .map(product -> Map.entry(productId, product))
+                .onErrorResume(e -> {
+                    System.out.println("상품 조회 실패 (부분 응답으로 처리): " + productId + " - " + e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // 주문 항목의 상품 ID 와 단일 상품 주문의 productId 를 중복 없이 수집
+    private Set<Long> productIds(JsonNode order) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (order.hasNonNull("productId")) {
+            ids.add(order.get("productId").asLong());
+        }
+        for (JsonNode item : order.path("items")) {
+            if (item.hasNonNull("productId")) {
+                ids.add(item.get("productId").asLong());
+            }
+        }
+        return ids;
+    }
+
+    private void setUserHeaders(HttpHeaders headers, TokenClaims claims) {
+        headers.set(JwtAuthenticationFilter.USER_ID_HEADER, claims.getUsername());
+        if (claims.getRole() != null) {
+            headers.set(JwtAuthenticationFilter.USER_ROLE_HEADER, claims.getRole());
+        }
+    }
+}
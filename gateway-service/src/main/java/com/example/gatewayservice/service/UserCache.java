@@ -0,0 +1,149 @@
+package com.example.gatewayservice.service;
+
+import com.example.gatewayservice.entity.User;
+import com.example.gatewayservice.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// username 기준 사용자 조회 캐시 (크기/TTL 제한, 존재하지 않는 사용자도 짧게 캐시)
+@Component
+public class UserCache implements MeterBinder {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${auth.user-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${auth.user-cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${auth.user-cache.negative-ttl-ms:30000}")
+    private long negativeTtlMs;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > maxSize) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // 관리자 화면의 전체 목록 조회용 스냅샷
+    private volatile List<User> allUsers;
+    private volatile long allUsersExpiresAt;
+
+    // 무효화 이후 진행 중이던 DB 조회가 오래된 값을 저장하지 않도록 세대 번호 사용 (entries 락 안에서 변경)
+    private long generation;
+
+    public Optional<User> findByUsername(String username) {
+        long now = System.currentTimeMillis();
+        long expectedGeneration;
+        synchronized (entries) {
+            expectedGeneration = generation;
+            Entry entry = entries.get(username);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    hits.incrementAndGet();
+                    return Optional.ofNullable(entry.user);
+                }
+                entries.remove(username);
+                evictions.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        User user = userRepository.findByUsername(username).orElse(null);
+        long expiresAt = now + (user != null ? ttlMs : negativeTtlMs);
+        synchronized (entries) {
+            if (generation == expectedGeneration) {
+                entries.put(username, new Entry(user, expiresAt));
+            }
+        }
+        return Optional.ofNullable(user);
+    }
+
+    public List<User> findAll() {
+        List<User> snapshot = allUsers;
+        if (snapshot != null && allUsersExpiresAt > System.currentTimeMillis()) {
+            hits.incrementAndGet();
+            return snapshot;
+        }
+        misses.incrementAndGet();
+        long expectedGeneration;
+        synchronized (entries) {
+            expectedGeneration = generation;
+        }
+        snapshot = List.copyOf(userRepository.findAll());
+        synchronized (entries) {
+            if (generation == expectedGeneration) {
+                allUsersExpiresAt = System.currentTimeMillis() + ttlMs;
+                allUsers = snapshot;
+            }
+        }
+        return snapshot;
+    }
+
+    public void invalidate(String username) {
+        synchronized (entries) {
+            generation++;
+            if (username != null) {
+                entries.remove(username);
+            }
+            allUsers = null;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public double hitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.user.cache.hits", hits, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("gateway.user.cache.misses", misses, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("gateway.user.cache.evictions", evictions, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("gateway.user.cache.hit.ratio", this, UserCache::hitRatio)
+                .register(registry);
+        Gauge.builder("gateway.user.cache.size", this, UserCache::size)
+                .register(registry);
+    }
+
+    private static class Entry {
+        private final User user;
+        private final long expiresAt;
+
+        private Entry(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
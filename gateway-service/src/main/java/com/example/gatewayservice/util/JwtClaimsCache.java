@@ -0,0 +1,98 @@
+package com.example.gatewayservice.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class JwtClaimsCache implements MeterBinder {
+
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int maxSize;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // accessOrder=true 로 LRU 순서 유지, 용량 초과 시 가장 오래된 항목 제거
+    private final Map<String, TokenClaims> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenClaims> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public TokenClaims get(String token) {
+        String key = digest(token);
+        TokenClaims claims;
+        synchronized (entries) {
+            claims = entries.get(key);
+            // 토큰이 만료되면 캐시 항목도 함께 만료
+            if (claims != null && claims.isExpired()) {
+                entries.remove(key);
+                claims = null;
+            }
+        }
+        if (claims == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return claims;
+    }
+
+    public void put(String token, TokenClaims claims) {
+        if (claims.isExpired()) {
+            return;
+        }
+        String key = digest(token);
+        synchronized (entries) {
+            entries.put(key, claims);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.jwt.claims.cache.hits", hits, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("gateway.jwt.claims.cache.misses", misses, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("gateway.jwt.claims.cache.size", this, JwtClaimsCache::size)
+                .register(registry);
+    }
+
+    // 원본 토큰 대신 SHA-256 다이제스트를 키로 사용
+    private String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.gatewayservice.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+    private final String username;
+    private final String role;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
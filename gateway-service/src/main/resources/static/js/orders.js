@@ -1,3 +1,12 @@
+// 게이트웨이 인증을 위해 모든 API 요청에 JWT 첨부
+function authHeaders(headers = {}) {
+    const token = localStorage.getItem('token');
+    if (token) {
+        headers['Authorization'] = `Bearer ${token}`;
+    }
+    return headers;
+}
+
 let orderModal;
 
 document.addEventListener('DOMContentLoaded', function() {
@@ -7,8 +16,12 @@ document.addEventListener('DOMContentLoaded', function() {
 
 async function loadOrders() {
     try {
-        const response = await fetch('/api/orders');
-        const orders = await response.json();
+        const response = await fetch('/api/orders', {
+            headers: authHeaders()
+        });
+        // 목록 API 는 키셋 페이지 형식 ({ content, nextCursor, hasNext })
+        const page = await response.json();
+        const orders = page.content;
         
         const tbody = document.getElementById('orderTableBody');
         tbody.innerHTML = '';
@@ -55,7 +68,9 @@ function showAddOrderModal() {
 
 async function editOrder(id) {
     try {
-        const response = await fetch(`/api/orders/${id}`);
+        const response = await fetch(`/api/orders/${id}`, {
+            headers: authHeaders()
+        });
         const order = await response.json();
         
         document.getElementById('modalTitle').textContent = '주문 수정';
@@ -91,9 +106,9 @@ async function saveOrder() {
         
         const response = await fetch(url, {
             method: method,
-            headers: {
+            headers: authHeaders({
                 'Content-Type': 'application/json'
-            },
+            }),
             body: JSON.stringify(order)
         });
 
@@ -117,7 +132,8 @@ async function deleteOrder(id) {
 
     try {
         const response = await fetch(`/api/orders/${id}`, {
-            method: 'DELETE'
+            method: 'DELETE',
+            headers: authHeaders()
         });
 
         if (!response.ok) {
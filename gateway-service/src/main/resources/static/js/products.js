@@ -1,3 +1,12 @@
+// 게이트웨이 인증을 위해 모든 API 요청에 JWT 첨부
+function authHeaders(headers = {}) {
+    const token = localStorage.getItem('token');
+    if (token) {
+        headers['Authorization'] = `Bearer ${token}`;
+    }
+    return headers;
+}
+
 let productModal;
 
 document.addEventListener('DOMContentLoaded', function() {
@@ -7,7 +16,9 @@ document.addEventListener('DOMContentLoaded', function() {
 
 async function loadProducts() {
     try {
-        const response = await fetch('/api/products');
+        const response = await fetch('/api/products', {
+            headers: authHeaders()
+        });
         const products = await response.json();
         
         const tbody = document.getElementById('productTableBody');
@@ -43,7 +54,9 @@ function showAddProductModal() {
 
 async function editProduct(id) {
     try {
-        const response = await fetch(`/api/products/${id}`);
+        const response = await fetch(`/api/products/${id}`, {
+            headers: authHeaders()
+        });
         const product = await response.json();
         
         document.getElementById('modalTitle').textContent = '상품 수정';
@@ -75,9 +88,9 @@ async function saveProduct() {
         
         const response = await fetch(url, {
             method: method,
-            headers: {
+            headers: authHeaders({
                 'Content-Type': 'application/json'
-            },
+            }),
             body: JSON.stringify(product)
         });
 
@@ -101,7 +114,8 @@ async function deleteProduct(id) {
 
     try {
         const response = await fetch(`/api/products/${id}`, {
-            method: 'DELETE'
+            method: 'DELETE',
+            headers: authHeaders()
         });
 
         if (!response.ok) {
@@ -0,0 +1,84 @@
+package com.example.gatewayservice.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 요청 한 건의 토큰 검증 비용 비교 (JwtAuthenticationFilter 가 요청마다 수행)
+// baseline: 변경 전 방식, 호출마다 서명 키/파서 생성 + username/만료 확인에 파싱 2번
+// precomputed: 시작 시 만든 키/파서로 파싱 1번 (캐시 미스 경로)
+// cached: parseToken 캐시 적중 경로 (SHA-256 다이제스트 + LRU 조회)
+// 실행: ./gradlew :gateway-service:jmh -Pjmh.includes=JwtUtilBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "your-256-bit-secret-key-here-must-be-at-least-32-characters-long";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtClaimsCache cache = new JwtClaimsCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 10000);
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCache", cache);
+        jwtUtil.init();
+
+        token = jwtUtil.generateToken("user1", "USER");
+        jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        blackhole.consume(baselineClaims(token).getSubject());
+        blackhole.consume(baselineClaims(token).getExpiration().before(new Date()));
+    }
+
+    @Benchmark
+    public Claims precomputed() {
+        return jwtUtil.extractClaim(token, claims -> claims);
+    }
+
+    @Benchmark
+    public TokenClaims cached() {
+        return jwtUtil.parseToken(token);
+    }
+
+    // 변경 전 JwtUtil.extractAllClaims
+    private static Claims baselineClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.order.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+
+// Jackson Smile(바이너리 JSON) 메시지 변환기
+// JSON 과 같은 데이터 모델이지만 필드명/짧은 문자열을 back-reference 로 재사용해서 메시지가 작고 파싱이 빠름
+public class Jackson2SmileMessageConverter extends AbstractMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-jackson-smile";
+
+    private final ObjectMapper objectMapper;
+    private final DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+
+    public Jackson2SmileMessageConverter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // __TypeId__ 헤더로 생성할 수 있는 타입은 기본 신뢰 패키지(java.util, java.lang)와 이 서비스의 메시지 타입으로 제한
+        this.typeMapper.setTrustedPackages("com.example.order.model", "com.example.order.dto");
+    }
+
+    @Override
+    protected Message createMessage(Object object, MessageProperties messageProperties) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(object);
+            messageProperties.setContentType(CONTENT_TYPE);
+            messageProperties.setContentLength(bytes.length);
+            // JSON 변환기와 같은 __TypeId__ 헤더를 붙여서 소비자 쪽 타입 결정 방식을 동일하게 유지
+            typeMapper.fromJavaType(objectMapper.constructType(object.getClass()), messageProperties);
+            return new Message(bytes, messageProperties);
+        } catch (IOException e) {
+            throw new MessageConversionException("Smile 메시지 변환에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        try {
+            // 리스너 파라미터 타입(inferred)이 있으면 우선 사용, 없으면 __TypeId__ 헤더 사용
+            JavaType targetType = typeMapper.toJavaType(message.getMessageProperties());
+            return objectMapper.readValue(message.getBody(), targetType);
+        } catch (IOException e) {
+            throw new MessageConversionException("Smile 메시지 변환에 실패했습니다.", e);
+        }
+    }
+}
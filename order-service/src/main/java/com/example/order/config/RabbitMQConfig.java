@@ -2,13 +2,17 @@ package com.example.order.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,6 +21,7 @@ public class RabbitMQConfig {
 
     public static final String ORDER_CREATED_QUEUE = "order.created";
     public static final String ORDER_STATUS_CHANGED_QUEUE = "order.status.changed";
+    public static final String ORDER_STATUS_CHANGED_BATCH_QUEUE = "order.status.changed.batch";
     public static final String INVENTORY_UPDATED_QUEUE = "inventory.updated";
     public static final String EXCHANGE_NAME = "coffee-shop-exchange";
 
@@ -30,6 +35,11 @@ public class RabbitMQConfig {
         return new Queue(ORDER_STATUS_CHANGED_QUEUE, true);
     }
 
+    @Bean
+    public Queue orderStatusChangedBatchQueue() {
+        return new Queue(ORDER_STATUS_CHANGED_BATCH_QUEUE, true);
+    }
+
     @Bean
     public Queue inventoryUpdatedQueue() {
         return new Queue(INVENTORY_UPDATED_QUEUE, true);
@@ -54,6 +64,13 @@ public class RabbitMQConfig {
                 .with(ORDER_STATUS_CHANGED_QUEUE);
     }
 
+    @Bean
+    public Binding orderStatusChangedBatchBinding(Queue orderStatusChangedBatchQueue, DirectExchange exchange) {
+        return BindingBuilder.bind(orderStatusChangedBatchQueue)
+                .to(exchange)
+                .with(ORDER_STATUS_CHANGED_BATCH_QUEUE);
+    }
+
     @Bean
     public Binding inventoryUpdatedBinding(Queue inventoryUpdatedQueue, DirectExchange exchange) {
         return BindingBuilder.bind(inventoryUpdatedQueue)
@@ -61,12 +78,29 @@ public class RabbitMQConfig {
                 .with(INVENTORY_UPDATED_QUEUE);
     }
 
+    // 수신 메시지는 content_type 에 따라 JSON/Smile 모두 처리, 발행 형식은 messaging.wire-format 으로 선택
+    // 배포 순서: 모든 서비스를 json 으로 배포(양쪽 형식 수신 가능) -> 발행 쪽을 smile 로 전환
     @Bean
-    public MessageConverter messageConverter() {
-        ObjectMapper objectMapper = new ObjectMapper();
+    public MessageConverter messageConverter(@Value("${messaging.wire-format:json}") String wireFormat) {
+        // 값 뒤 공백 등으로 smile 설정이 조용히 json 으로 바뀌지 않도록 정리 후 알 수 없는 값은 시작 시 거부
+        String format = wireFormat.trim();
+        if (!"json".equals(format) && !"smile".equals(format)) {
+            throw new IllegalArgumentException("지원하지 않는 messaging.wire-format 값입니다: " + wireFormat);
+        }
+        MessageConverter json = new Jackson2JsonMessageConverter(configure(new ObjectMapper()));
+        MessageConverter smile = new Jackson2SmileMessageConverter(configure(new ObjectMapper(new SmileFactory())));
+
+        ContentTypeDelegatingMessageConverter converter =
+                new ContentTypeDelegatingMessageConverter("smile".equals(format) ? smile : json);
+        converter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        converter.addDelegate(Jackson2SmileMessageConverter.CONTENT_TYPE, smile);
+        return converter;
+    }
+
+    private ObjectMapper configure(ObjectMapper objectMapper) {
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        return new Jackson2JsonMessageConverter(objectMapper);
+        return objectMapper;
     }
 }
 
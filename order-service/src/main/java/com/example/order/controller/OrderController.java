@@ -1,13 +1,36 @@
 package com.example.order.controller;
 
+import com.example.order.dto.AcceptedOrder;
+import com.example.order.dto.BatchOrderResult;
+import com.example.order.dto.BulkStatusRequest;
+import com.example.order.dto.BulkStatusResult;
+import com.example.order.dto.OrderPage;
+import com.example.order.dto.SalesBucket;
+import com.example.order.dto.StoreQueueStatus;
 import com.example.order.messaging.OrderMessageProducer;
 import com.example.order.model.Order;
-import com.example.order.model.OrderItem;
 import com.example.order.repository.OrderRepository;
+import com.example.order.service.AsyncOrderWriter;
+import com.example.order.service.OrderBatchService;
+import com.example.order.service.OrderQueryService;
+import com.example.order.service.OrderStatusService;
+import com.example.order.service.OrderStreamService;
+import com.example.order.service.StoreQueueIndex;
+import com.example.order.stats.SalesAggregator;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -21,9 +44,62 @@ public class OrderController {
     @Autowired
     private OrderMessageProducer messageProducer;
 
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Autowired
+    private OrderBatchService orderBatchService;
+
+    @Autowired
+    private AsyncOrderWriter asyncOrderWriter;
+
+    @Autowired
+    private OrderStreamService orderStreamService;
+
+    @Autowired
+    private StoreQueueIndex storeQueueIndex;
+
+    @Autowired
+    private OrderStatusService orderStatusService;
+
+    @Autowired
+    private SalesAggregator salesAggregator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 키셋 페이지네이션: 응답의 nextCursor 를 다음 요청의 cursor 로 전달
     @GetMapping
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    public OrderPage getAllOrders(@RequestParam(required = false) Long cursor,
+                                  @RequestParam(defaultValue = "20") int size) {
+        return orderQueryService.findOrders(cursor, size);
+    }
+
+    // 시간 단위 판매 집계 (dimension=STORE|PRODUCT, id 생략 시 전체, 기본 기간: 오늘 0시 ~ 현재)
+    @GetMapping("/stats")
+    public ResponseEntity<List<SalesBucket>> getSalesStats(
+            @RequestParam(defaultValue = SalesAggregator.STORE) String dimension,
+            @RequestParam(required = false) Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        String upper = dimension.toUpperCase();
+        if (!SalesAggregator.isDimension(upper)) {
+            return ResponseEntity.badRequest().build();
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.toLocalDate().atStartOfDay();
+        return ResponseEntity.ok(salesAggregator.buckets(upper, id, start, end));
+    }
+
+    // 기간 내 판매 수량 상위 상품 (기본 기간: 오늘 0시 ~ 현재)
+    @GetMapping("/stats/top-products")
+    public List<SalesBucket> getTopProducts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "10") int limit) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.toLocalDate().atStartOfDay();
+        return salesAggregator.topProducts(start, end, Math.max(1, Math.min(limit, 100)));
     }
 
     @GetMapping("/{id}")
@@ -33,21 +109,17 @@ public class OrderController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // 주문 저장과 이벤트(outbox) 기록을 하나의 트랜잭션으로 처리
     @PostMapping
+    @Transactional
     public Order createOrder(@RequestBody Order order) {
         order.setOrderDate(LocalDateTime.now());
         order.setStatus("PENDING");
         
-        // 추가: 준비시간 계산
+        // 준비시간과 매장 대기열(앞선 진행 중 주문)을 함께 고려한 예상 완료 시간
         if (order.getItems() != null && !order.getItems().isEmpty()) {
-            int maxPreparationTime = order.getItems().stream()
-                .mapToInt(OrderItem::getPreparationTime)
-                .max()
-                .orElse(0);
-            
-            order.setEstimatedCompletionTime(
-                order.getOrderDate().plusMinutes(maxPreparationTime)
-            );
+            order.setEstimatedCompletionTime(storeQueueIndex.estimateCompletion(
+                order.getStoreId(), order.getOrderDate(), StoreQueueIndex.preparationMinutes(order), 0));
         }
         
         Order savedOrder = orderRepository.save(order);
@@ -58,12 +130,74 @@ public class OrderController {
         return savedOrder;
     }
 
+    // 비동기 접수 (Prefer: respond-async): 검증 후 큐에 넣고 202 + 추적 ID 반환, 큐가 가득 차면 429
+    // Prefer 는 "respond-async, wait=5" 처럼 여러 선호를 담을 수 있어 헤더 존재로 매핑하고 토큰을 직접 확인
+    // respond-async 가 없으면 동기 생성과 같은 트랜잭션 처리
+    @PostMapping(headers = "Prefer")
+    public ResponseEntity<?> acceptOrder(@RequestBody Order order,
+                                         @RequestHeader("Prefer") List<String> preferences) {
+        if (!prefersAsync(preferences)) {
+            return ResponseEntity.ok(new TransactionTemplate(transactionManager).execute(status -> createOrder(order)));
+        }
+        String reason = orderBatchService.validate(order);
+        if (reason != null) {
+            return ResponseEntity.badRequest().body(AcceptedOrder.failed(null, reason));
+        }
+        AcceptedOrder accepted = asyncOrderWriter.enqueue(order);
+        if (accepted == null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/accepted/" + accepted.getTrackingId()))
+                .header("Preference-Applied", "respond-async")
+                .body(accepted);
+    }
+
+    // 각 선호에서 파라미터(; 뒤)와 값(= 뒤)을 떼고 이름만 비교 (대소문자 무시)
+    private static boolean prefersAsync(List<String> preferences) {
+        for (String preference : preferences) {
+            for (String token : preference.split(",")) {
+                String name = token.split(";", 2)[0].split("=", 2)[0].trim();
+                if ("respond-async".equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @GetMapping("/accepted/{trackingId}")
+    public ResponseEntity<AcceptedOrder> getAcceptedOrder(@PathVariable String trackingId) {
+        AcceptedOrder accepted = asyncOrderWriter.getStatus(trackingId);
+        return accepted != null ? ResponseEntity.ok(accepted) : ResponseEntity.notFound().build();
+    }
+
+    // 일괄 생성: 건별 검증 후 청크 단위로 저장, 성공/실패 건수와 실패 사유를 반환
+    @PostMapping("/batch")
+    public ResponseEntity<BatchOrderResult> createOrders(@RequestBody List<Order> orders) {
+        if (orders.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (orders.size() > orderBatchService.getMaxSize()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.ok(orderBatchService.createOrders(orders));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Order> updateOrder(@PathVariable Long id, @RequestBody Order order) {
         return orderRepository.findById(id)
                 .map(existingOrder -> {
+                    // 저장하면 기존 엔티티가 덮어써지므로 수정 전 집계 기여분을 먼저 계산
+                    SalesAggregator.Contribution before = salesAggregator.contributionOf(existingOrder);
                     order.setId(id);
-                    return ResponseEntity.ok(orderRepository.save(order));
+                    Order savedOrder = orderRepository.save(order);
+                    storeQueueIndex.track(id, savedOrder.getStoreId(), savedOrder.getStatus(),
+                            StoreQueueIndex.preparationMinutes(savedOrder));
+                    salesAggregator.replace(before, salesAggregator.contributionOf(savedOrder));
+                    return ResponseEntity.ok(savedOrder);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -72,29 +206,61 @@ public class OrderController {
     public ResponseEntity<Void> deleteOrder(@PathVariable Long id) {
         return orderRepository.findById(id)
                 .map(order -> {
+                    SalesAggregator.Contribution before = salesAggregator.contributionOf(order);
                     orderRepository.delete(order);
+                    storeQueueIndex.remove(id);
+                    salesAggregator.replace(before, null);
                     return ResponseEntity.ok().<Void>build();
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/store/{storeId}")
-    public List<Order> getOrdersByStore(@PathVariable Long storeId) {
-        return orderRepository.findByStoreId(storeId);
+    public OrderPage getOrdersByStore(@PathVariable Long storeId,
+                                      @RequestParam(required = false) Long cursor,
+                                      @RequestParam(defaultValue = "20") int size) {
+        return orderQueryService.findOrdersByStore(storeId, cursor, size);
+    }
+
+    // 매장 대기열 현황 (진행 중 주문 수, 남은 준비시간 합계, 지금 주문 시 예상 대기 시간)
+    @GetMapping("/store/{storeId}/queue")
+    public StoreQueueStatus getStoreQueue(@PathVariable Long storeId) {
+        return storeQueueIndex.status(storeId, LocalDateTime.now());
+    }
+
+    // 주방 화면용 실시간 스트림: snapshot 이벤트(진행 중 주문) 후 order.created / order.status.changed 이벤트 전달
+    @GetMapping(value = "/store/{storeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrdersByStore(@PathVariable Long storeId) throws JsonProcessingException {
+        return orderStreamService.subscribe(storeId);
     }
 
     @PatchMapping("/{id}/status")
+    @Transactional
     public ResponseEntity<Order> updateOrderStatus(@PathVariable Long id, @RequestBody String status) {
         return orderRepository.findById(id)
                 .map(order -> {
+                    String previousStatus = order.getStatus();
                     order.setStatus(status);
                     Order updatedOrder = orderRepository.save(order);
                     
                     // 이벤트 발행 추가
-                    messageProducer.sendOrderStatusChangedEvent(id, status);
+                    messageProducer.sendOrderStatusChangedEvent(id, order.getStoreId(), previousStatus, status);
                     
                     return ResponseEntity.ok(updatedOrder);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
-} 
\ No newline at end of file
+
+    // 상태 일괄 변경: 허용된 이전 상태인 주문만 변경하고 ID 별 결과 반환, 이벤트는 묶음 한 건으로 발행
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusResult> updateOrderStatuses(@RequestBody BulkStatusRequest request) {
+        if (request.getIds() == null || request.getIds().isEmpty()
+                || !orderStatusService.isTransitionTarget(request.getStatus())) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (request.getIds().size() > orderStatusService.getMaxSize()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.ok(orderStatusService.transition(request.getIds(), request.getStatus()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비동기 접수 주문의 추적 상태 (QUEUED -> CREATED | FAILED)
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AcceptedOrder {
+    private String trackingId;
+    private String status;
+    private Long orderId;
+    private String reason;
+
+    public static AcceptedOrder queued(String trackingId) {
+        return new AcceptedOrder(trackingId, "QUEUED", null, null);
+    }
+
+    public static AcceptedOrder created(String trackingId, Long orderId) {
+        return new AcceptedOrder(trackingId, "CREATED", orderId, null);
+    }
+
+    public static AcceptedOrder failed(String trackingId, String reason) {
+        return new AcceptedOrder(trackingId, "FAILED", null, reason);
+    }
+}
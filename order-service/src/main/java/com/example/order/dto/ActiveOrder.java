@@ -0,0 +1,13 @@
+package com.example.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 매장 대기열 인덱스 재구성용 프로젝션 (진행 중 주문과 최대 준비시간)
+@Getter
+@AllArgsConstructor
+public class ActiveOrder {
+    private Long id;
+    private Long storeId;
+    private Integer preparationTime;
+}
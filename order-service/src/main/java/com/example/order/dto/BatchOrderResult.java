@@ -0,0 +1,33 @@
+package com.example.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 일괄 주문 생성 결과 (failures 의 index 는 요청 배열 기준)
+@Getter
+public class BatchOrderResult {
+    private int accepted;
+    private int failed;
+    private final List<Long> orderIds = new ArrayList<>();
+    private final List<Failure> failures = new ArrayList<>();
+
+    public void accept(Long orderId) {
+        accepted++;
+        orderIds.add(orderId);
+    }
+
+    public void fail(int index, String reason) {
+        failed++;
+        failures.add(new Failure(index, reason));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+        private int index;
+        private String reason;
+    }
+}
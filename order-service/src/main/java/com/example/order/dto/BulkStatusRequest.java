@@ -0,0 +1,13 @@
+package com.example.order.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkStatusRequest {
+    private List<Long> ids;
+    private String status;
+}
@@ -0,0 +1,40 @@
+package com.example.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 상태 일괄 변경 결과 (results 는 요청 ID 순서, 중복 ID 는 한 번만)
+@Getter
+public class BulkStatusResult {
+    public static final String UPDATED = "UPDATED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String INVALID_TRANSITION = "INVALID_TRANSITION";
+
+    private final String status;
+    private int updated;
+    private final List<Outcome> results = new ArrayList<>();
+
+    public BulkStatusResult(String status) {
+        this.status = status;
+    }
+
+    public void add(Long id, String result, String previousStatus) {
+        if (UPDATED.equals(result)) {
+            updated++;
+        }
+        results.add(new Outcome(id, result, previousStatus));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Outcome {
+        private Long id;
+        private String result;
+        private String previousStatus;
+    }
+}
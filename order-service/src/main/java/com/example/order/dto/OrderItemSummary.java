@@ -0,0 +1,19 @@
+package com.example.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderItemSummary {
+    // 주문별로 묶을 때만 사용
+    @JsonIgnore
+    private Long orderId;
+    private Long id;
+    private Long productId;
+    private String productName;
+    private Integer quantity;
+    private Double price;
+    private Integer preparationTime;
+}
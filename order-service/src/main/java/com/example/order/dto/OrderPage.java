@@ -0,0 +1,15 @@
+package com.example.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 키셋 페이지: 다음 페이지는 ?cursor={nextCursor} 로 요청 (최신 주문부터 id 내림차순)
+@Getter
+@AllArgsConstructor
+public class OrderPage {
+    private List<OrderSummary> content;
+    private Long nextCursor;
+    private boolean hasNext;
+}
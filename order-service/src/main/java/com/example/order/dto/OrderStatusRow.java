@@ -0,0 +1,10 @@
+package com.example.order.dto;
+
+// 상태 일괄 변경 시 잠근 주문 행의 현재 상태 (네이티브 쿼리 프로젝션)
+public interface OrderStatusRow {
+    Long getId();
+
+    Long getStoreId();
+
+    String getStatus();
+}
@@ -0,0 +1,40 @@
+package com.example.order.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 주문 목록 조회용 DTO (JPQL 생성자 프로젝션으로 바로 생성, 엔티티 지연 로딩 없음)
+@Getter
+@Setter
+public class OrderSummary {
+    private Long id;
+    private Long productId;
+    private Integer quantity;
+    private Double totalPrice;
+    private String customerName;
+    private String customerEmail;
+    private LocalDateTime orderDate;
+    private String status;
+    private Long storeId;
+    private LocalDateTime estimatedCompletionTime;
+    private List<OrderItemSummary> items = new ArrayList<>();
+
+    public OrderSummary(Long id, Long productId, Integer quantity, Double totalPrice, String customerName,
+                        String customerEmail, LocalDateTime orderDate, String status, Long storeId,
+                        LocalDateTime estimatedCompletionTime) {
+        this.id = id;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.totalPrice = totalPrice;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.orderDate = orderDate;
+        this.status = status;
+        this.storeId = storeId;
+        this.estimatedCompletionTime = estimatedCompletionTime;
+    }
+}
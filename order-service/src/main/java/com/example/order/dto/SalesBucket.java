@@ -0,0 +1,19 @@
+package com.example.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 매장/상품별 시간 단위 판매 집계 (revenue 는 취소 전 총액, 취소/완료는 상태 변경 시각 기준 건수)
+@Getter
+@AllArgsConstructor
+public class SalesBucket {
+    private Long id;
+    private LocalDateTime bucketStart;
+    private long orders;
+    private long quantity;
+    private double revenue;
+    private long completed;
+    private long cancelled;
+}
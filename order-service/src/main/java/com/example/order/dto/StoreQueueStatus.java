@@ -0,0 +1,17 @@
+package com.example.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 매장 대기열 현황 (estimatedWaitMinutes: 지금 주문하면 제조 시작까지 예상 대기 시간)
+@Getter
+@AllArgsConstructor
+public class StoreQueueStatus {
+    private Long storeId;
+    private int depth;
+    private long pendingWorkMinutes;
+    private long estimatedWaitMinutes;
+    private LocalDateTime estimatedStartTime;
+}
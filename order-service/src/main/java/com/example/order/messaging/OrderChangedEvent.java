@@ -0,0 +1,7 @@
+package com.example.order.messaging;
+
+// outbox 에 기록한 주문 이벤트를 같은 프로세스 안에 알리는 이벤트 (커밋 후 실시간 스트림/매장 대기열 인덱스에 반영)
+// type 은 RabbitMQ 라우팅 키와 같음 (order.created, order.status.changed), previousStatus 는 상태 변경 전 값 (생성 시 null)
+public record OrderChangedEvent(String type, Long storeId, Long orderId, String previousStatus, String status,
+                                Object payload) {
+}
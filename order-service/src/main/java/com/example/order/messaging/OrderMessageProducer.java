@@ -1,43 +1,118 @@
 package com.example.order.messaging;
 
+import com.example.order.config.RabbitMQConfig;
+import com.example.order.dto.OrderStatusRow;
 import com.example.order.model.Order;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import com.example.order.model.OutboxEvent;
+import com.example.order.repository.OutboxEventRepository;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+// 이벤트를 바로 발행하지 않고 호출한 쪽 트랜잭션 안에서 outbox 테이블에 기록
+// 실제 발행은 OutboxRelay 가 배치로 처리, 같은 이벤트를 OrderChangedEvent 로도 알려 커밋 후 실시간 스트림/대기열 인덱스에 반영
 @Component
 public class OrderMessageProducer {
 
     @Autowired
-    private RabbitTemplate rabbitTemplate;
+    private OutboxEventRepository outboxEventRepository;
 
-    private static final String EXCHANGE = "coffee-shop-exchange";
+    @Autowired
+    private MessageConverter messageConverter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendOrderCreatedEvent(Order order) {
-        rabbitTemplate.convertAndSend(
-            EXCHANGE,
-            "order.created",
-            order
-        );
-        System.out.println("주문 생성 이벤트 발행: " + order.getId());
+        append("order.created", order);
+        eventPublisher.publishEvent(new OrderChangedEvent("order.created", order.getStoreId(), order.getId(),
+                null, order.getStatus(), order));
+        System.out.println("주문 생성 이벤트 기록: " + order.getId());
+    }
+
+    // 일괄 주문 생성용: outbox 행을 JDBC 배치 insert 한 번으로 기록
+    // OUTBOX_EVENTS 는 발행 순서를 위해 IDENTITY 키를 유지하므로 Hibernate 배치 대신 JdbcTemplate 사용
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendOrderCreatedEvents(List<Order> orders) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = orders.stream()
+                .map(order -> {
+                    Message message = messageConverter.toMessage(order, new MessageProperties());
+                    MessageProperties properties = message.getMessageProperties();
+                    return new Object[]{"order.created", properties.getContentType(),
+                            properties.getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME),
+                            message.getBody(), now};
+                })
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("insert into OUTBOX_EVENTS (routing_key, content_type, type_id, payload, created_at) "
+                + "values (?, ?, ?, ?, ?)", rows);
+        orders.forEach(order -> eventPublisher.publishEvent(new OrderChangedEvent("order.created",
+                order.getStoreId(), order.getId(), null, order.getStatus(), order)));
+        System.out.println("주문 생성 이벤트 일괄 기록: " + orders.size() + "건");
     }
 
-    public void sendOrderStatusChangedEvent(Long orderId, String status) {
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendOrderStatusChangedEvent(Long orderId, Long storeId, String previousStatus, String status) {
         Map<String, Object> message = new HashMap<>();
         message.put("orderId", orderId);
         message.put("status", status);
         message.put("timestamp", LocalDateTime.now());
 
-        rabbitTemplate.convertAndSend(
-            EXCHANGE,
-            "order.status.changed",
-            message
-        );
-        System.out.println("주문 상태 변경 이벤트 발행: " + orderId + " -> " + status);
+        append("order.status.changed", message);
+        eventPublisher.publishEvent(new OrderChangedEvent("order.status.changed", storeId, orderId, previousStatus,
+                status, message));
+        System.out.println("주문 상태 변경 이벤트 기록: " + orderId + " -> " + status);
     }
-}
 
+    // 상태 일괄 변경: 브로커에는 묶음 메시지 한 건(order.status.changed.batch), 프로세스 안에는 주문별 변경 이벤트
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendOrderStatusChangedEvents(List<OrderStatusRow> orders, String status) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> message = new HashMap<>();
+        message.put("orderIds", orders.stream().map(OrderStatusRow::getId).collect(Collectors.toList()));
+        message.put("status", status);
+        message.put("timestamp", now);
+
+        append(RabbitMQConfig.ORDER_STATUS_CHANGED_BATCH_QUEUE, message);
+        orders.forEach(order -> {
+            Map<String, Object> changed = new HashMap<>();
+            changed.put("orderId", order.getId());
+            changed.put("status", status);
+            changed.put("timestamp", now);
+            eventPublisher.publishEvent(new OrderChangedEvent("order.status.changed", order.getStoreId(),
+                    order.getId(), order.getStatus(), status, changed));
+        });
+        System.out.println("주문 상태 일괄 변경 이벤트 기록: " + orders.size() + "건 -> " + status);
+    }
+
+    // 발행할 때와 같은 변환기로 미리 직렬화해서 저장 (소비자가 받는 메시지 형식은 그대로)
+    private void append(String routingKey, Object payload) {
+        Message message = messageConverter.toMessage(payload, new MessageProperties());
+        MessageProperties properties = message.getMessageProperties();
+
+        OutboxEvent event = new OutboxEvent();
+        event.setRoutingKey(routingKey);
+        event.setContentType(properties.getContentType());
+        event.setTypeId(properties.getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME));
+        event.setPayload(message.getBody());
+        event.setCreatedAt(LocalDateTime.now());
+        outboxEventRepository.save(event);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.order.messaging;
+
+import com.example.order.config.RabbitMQConfig;
+import com.example.order.model.OutboxEvent;
+import com.example.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// outbox 테이블을 배치 단위로 읽어 RabbitMQ 로 발행하고, 브로커 확인(publisher confirm)을 받은 행만 삭제
+// 확인을 못 받으면 행이 남아 다음 주기에 다시 발행됨 (at-least-once, 소비자는 중복 수신 가능)
+// 소비자는 messageId(outbox-{id}) 로 중복을 거름 (product-service OrderMessageConsumer)
+@Component
+public class OutboxRelay {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    // 발행 대기 건수와 가장 오래된 대기 이벤트의 나이
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMs = new AtomicLong();
+
+    private Counter published;
+    private Counter failures;
+    private DistributionSummary batchSizes;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("order.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("order.outbox.lag.ms", lagMs, AtomicLong::get).register(meterRegistry);
+        published = meterRegistry.counter("order.outbox.published");
+        failures = meterRegistry.counter("order.outbox.publish.failures");
+        batchSizes = DistributionSummary.builder("order.outbox.batch.size").register(meterRegistry);
+    }
+
+    // linger-ms 동안 쌓인 이벤트를 한 번에 발행, 배치가 가득 차면 바로 다음 배치를 이어서 처리
+    @Scheduled(fixedDelayString = "${outbox.relay.linger-ms:100}")
+    public void relay() {
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (batch.isEmpty() || !publish(batch)) {
+                break;
+            }
+            outboxEventRepository.deleteAllByIdInBatch(
+                    batch.stream().map(OutboxEvent::getId).collect(Collectors.toList()));
+            published.increment(batch.size());
+            batchSizes.record(batch.size());
+        } while (batch.size() == batchSize);
+
+        updateLag();
+    }
+
+    private boolean publish(List<OutboxEvent> batch) {
+        try {
+            // 한 채널에서 배치 전체를 보낸 뒤 확인을 한 번에 기다림
+            rabbitTemplate.invoke(operations -> {
+                for (OutboxEvent event : batch) {
+                    operations.send(RabbitMQConfig.EXCHANGE_NAME, event.getRoutingKey(), toMessage(event));
+                }
+                operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+            return true;
+        } catch (Exception e) {
+            failures.increment();
+            System.err.println("outbox 이벤트 발행 실패 (다음 주기에 재시도): " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(event.getContentType());
+        properties.setMessageId("outbox-" + event.getId());
+        if (event.getTypeId() != null) {
+            properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId());
+        }
+        return new Message(event.getPayload(), properties);
+    }
+
+    private void updateLag() {
+        pending.set(outboxEventRepository.count());
+        lagMs.set(outboxEventRepository.findFirstByOrderByIdAsc()
+                .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+                .orElse(0L));
+    }
+}
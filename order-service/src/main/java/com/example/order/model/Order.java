@@ -10,8 +10,10 @@ import java.util.List;
 @Table(name = "ORDERS")
 @Data
 public class Order {
+    // IDENTITY 는 Hibernate insert 배치를 끄므로 시퀀스 + pooled 할당(50개 단위) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "ORDERS_SEQ", allocationSize = 50)
     private Long id;
     private Long productId;
     private Integer quantity;
@@ -0,0 +1,24 @@
+package com.example.order.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+// 주문 변경과 같은 트랜잭션에 기록하는 발행 대기 이벤트 (OutboxRelay 가 발행 후 삭제)
+@Entity
+@Table(name = "OUTBOX_EVENTS")
+@Data
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String routingKey;
+    private String contentType;
+    // Jackson2JsonMessageConverter 가 붙이는 __TypeId__ 헤더 값
+    private String typeId;
+
+    @Lob
+    private byte[] payload;
+
+    private LocalDateTime createdAt;
+}
@@ -1,11 +1,20 @@
 package com.example.order.repository;
 
+import com.example.order.dto.OrderItemSummary;
 import com.example.order.model.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByOrderId(Long orderId);
-}
 
+    // 한 페이지 주문들의 항목을 IN 쿼리 한 번으로 조회
+    @Query("select new com.example.order.dto.OrderItemSummary(i.order.id, i.id, i.productId, i.productName, " +
+            "i.quantity, i.price, i.preparationTime) " +
+            "from OrderItem i where i.order.id in :orderIds order by i.id")
+    List<OrderItemSummary> findSummariesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -1,11 +1,54 @@
 package com.example.order.repository;
 
+import com.example.order.dto.ActiveOrder;
+import com.example.order.dto.OrderStatusRow;
+import com.example.order.dto.OrderSummary;
 import com.example.order.model.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByStoreId(Long storeId);
     List<Order> findByStatus(String status);
-} 
\ No newline at end of file
+
+    // 키셋 페이지 조회 (cursor 보다 작은 id, 최신순), 페이지 크기는 Pageable 로 제한
+    @Query("select new com.example.order.dto.OrderSummary(o.id, o.productId, o.quantity, o.totalPrice, " +
+            "o.customerName, o.customerEmail, o.orderDate, o.status, o.storeId, o.estimatedCompletionTime) " +
+            "from Order o where (:cursor is null or o.id < :cursor) order by o.id desc")
+    List<OrderSummary> findSummaries(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select new com.example.order.dto.OrderSummary(o.id, o.productId, o.quantity, o.totalPrice, " +
+            "o.customerName, o.customerEmail, o.orderDate, o.status, o.storeId, o.estimatedCompletionTime) " +
+            "from Order o where o.storeId = :storeId and (:cursor is null or o.id < :cursor) order by o.id desc")
+    List<OrderSummary> findSummariesByStoreId(@Param("storeId") Long storeId, @Param("cursor") Long cursor,
+                                              Pageable pageable);
+
+    // 매장의 진행 중 주문 (접수 순)
+    @Query("select new com.example.order.dto.OrderSummary(o.id, o.productId, o.quantity, o.totalPrice, " +
+            "o.customerName, o.customerEmail, o.orderDate, o.status, o.storeId, o.estimatedCompletionTime) " +
+            "from Order o where o.storeId = :storeId and o.status in :statuses order by o.id")
+    List<OrderSummary> findSummariesByStoreIdAndStatusIn(@Param("storeId") Long storeId,
+                                                         @Param("statuses") Collection<String> statuses);
+
+    // 전체 진행 중 주문과 항목 최대 준비시간 (매장 대기열 인덱스 재구성용)
+    @Query("select new com.example.order.dto.ActiveOrder(o.id, o.storeId, coalesce(max(i.preparationTime), 0)) " +
+            "from Order o left join o.items i where o.status in :statuses group by o.id, o.storeId")
+    List<ActiveOrder> findActiveOrders(@Param("statuses") Collection<String> statuses);
+
+    // 상태 일괄 변경 대상 행을 잠그고 현재 상태만 조회 (엔티티 로딩 없음)
+    @Query(value = "select id as id, store_id as storeId, status as status from ORDERS where id in (:ids) for update",
+            nativeQuery = true)
+    List<OrderStatusRow> lockStatuses(@Param("ids") Collection<Long> ids);
+
+    // 허용된 이전 상태(from)인 행만 변경하는 조건부 일괄 UPDATE
+    @Modifying
+    @Query("update Order o set o.status = :to where o.id in :ids and o.status in :from")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("from") Collection<String> from,
+                     @Param("to") String to);
+}
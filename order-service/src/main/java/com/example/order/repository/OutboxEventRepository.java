@@ -0,0 +1,13 @@
+package com.example.order.repository;
+
+import com.example.order.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    List<OutboxEvent> findAllByOrderByIdAsc(Pageable pageable);
+    Optional<OutboxEvent> findFirstByOrderByIdAsc();
+}
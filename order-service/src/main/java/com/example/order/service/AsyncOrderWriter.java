@@ -0,0 +1,163 @@
+package com.example.order.service;
+
+import com.example.order.dto.AcceptedOrder;
+import com.example.order.dto.BatchOrderResult;
+import com.example.order.model.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 비동기 주문 접수 (Prefer: respond-async)
+// 요청 스레드는 고정 크기 큐에 넣고 추적 ID 만 돌려주며, 전용 writer 스레드가 쌓인 주문을 한 트랜잭션으로 묶어 커밋 (group commit)
+// 커밋하는 동안 들어온 주문은 다음 묶음이 되므로 부하가 높을수록 트랜잭션당 주문 수가 커짐
+@Service
+public class AsyncOrderWriter {
+
+    @Autowired
+    private OrderBatchService orderBatchService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${order.async.capacity:4096}")
+    private int capacity;
+
+    @Value("${order.async.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${order.async.tracking-max-size:10000}")
+    private int trackingMaxSize;
+
+    private BlockingQueue<PendingOrder> queue;
+    private Thread writer;
+    private volatile boolean running = true;
+
+    // 최근 접수 건의 추적 상태 (LRU, 용량 초과 시 가장 오래된 항목 제거)
+    private final Map<String, AcceptedOrder> tracking = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AcceptedOrder> eldest) {
+            return size() > trackingMaxSize;
+        }
+    };
+
+    private Counter rejected;
+    private DistributionSummary commitSizes;
+
+    @PostConstruct
+    void init() {
+        // 일괄 생성은 chunk-size 마다 트랜잭션을 나누므로 묶음을 chunk-size 이하로 제한해 한 묶음 = 한 트랜잭션 유지
+        maxBatchSize = Math.max(1, Math.min(maxBatchSize, orderBatchService.getChunkSize()));
+        queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder("order.async.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        rejected = meterRegistry.counter("order.async.rejected");
+        commitSizes = meterRegistry.summary("order.async.commit.size");
+
+        writer = new Thread(this::run, "order-async-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 큐가 가득 차면 null (호출한 쪽에서 429 응답)
+    public AcceptedOrder enqueue(Order order) {
+        String trackingId = UUID.randomUUID().toString();
+        AcceptedOrder accepted = AcceptedOrder.queued(trackingId);
+        synchronized (tracking) {
+            tracking.put(trackingId, accepted);
+        }
+        if (!queue.offer(new PendingOrder(trackingId, order))) {
+            synchronized (tracking) {
+                tracking.remove(trackingId);
+            }
+            rejected.increment();
+            return null;
+        }
+        return accepted;
+    }
+
+    public AcceptedOrder getStatus(String trackingId) {
+        synchronized (tracking) {
+            return tracking.get(trackingId);
+        }
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 묶음 처리 자체가 실패하면 이미 202 로 접수한 다른 주문까지 실패시키지 않도록 건별로 다시 커밋
+                System.out.println("비동기 주문 커밋 실패, 건별 재시도: " + e.getMessage());
+                batch.forEach(this::commitOne);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 저장 실패는 OrderBatchService 가 건별로 걸러 index 별 사유로 돌려주므로 실패한 주문만 FAILED 로 표시
+    private void commit(List<PendingOrder> batch) {
+        List<Order> orders = batch.stream().map(PendingOrder::order).collect(Collectors.toList());
+        BatchOrderResult result = orderBatchService.createOrders(orders);
+        commitSizes.record(batch.size());
+
+        Map<Integer, String> failures = result.getFailures().stream()
+                .collect(Collectors.toMap(BatchOrderResult.Failure::getIndex, BatchOrderResult.Failure::getReason));
+        for (int i = 0; i < batch.size(); i++) {
+            String trackingId = batch.get(i).trackingId();
+            String reason = failures.get(i);
+            update(reason == null
+                    ? AcceptedOrder.created(trackingId, orders.get(i).getId())
+                    : AcceptedOrder.failed(trackingId, reason));
+        }
+    }
+
+    private void commitOne(PendingOrder pending) {
+        try {
+            commit(List.of(pending));
+        } catch (RuntimeException e) {
+            update(AcceptedOrder.failed(pending.trackingId(), "저장 실패"));
+        }
+    }
+
+    private void update(AcceptedOrder status) {
+        synchronized (tracking) {
+            tracking.put(status.getTrackingId(), status);
+        }
+    }
+
+    // 종료 시 큐에 남은 주문까지 커밋한 뒤 writer 종료
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private record PendingOrder(String trackingId, Order order) {
+    }
+}
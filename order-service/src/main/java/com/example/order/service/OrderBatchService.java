@@ -0,0 +1,192 @@
+package com.example.order.service;
+
+import com.example.order.dto.BatchOrderResult;
+import com.example.order.messaging.OrderMessageProducer;
+import com.example.order.model.Order;
+import com.example.order.model.OrderItem;
+import com.example.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// POS 오프라인 주문 재전송용 일괄 생성
+// chunk-size 건씩 한 트랜잭션으로 저장 (주문/항목은 Hibernate JDBC 배치, 이벤트는 outbox 배치 insert)
+// 한 청크가 실패하면 그 청크만 건별로 다시 저장하고, 실제 실패 건은 요청 배열 index 와 사유로 보고
+@Service
+public class OrderBatchService {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderMessageProducer messageProducer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StoreQueueIndex storeQueueIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${order.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${order.batch.max-size:5000}")
+    private int maxSize;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter acceptedOrders;
+    private Counter failedOrders;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        acceptedOrders = meterRegistry.counter("order.batch.orders", "result", "accepted");
+        failedOrders = meterRegistry.counter("order.batch.orders", "result", "failed");
+        batchTimer = meterRegistry.timer("order.batch.duration");
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public BatchOrderResult createOrders(List<Order> orders) {
+        long startedAt = System.nanoTime();
+        BatchOrderResult result = new BatchOrderResult();
+        LocalDateTime now = LocalDateTime.now();
+        // 같은 요청 안에서 앞에 놓인 주문의 준비시간 (매장별), 아직 커밋 전이라 대기열 인덱스에 없음
+        Map<Long, Long> batchWorkMinutes = new HashMap<>();
+
+        List<Order> chunk = new ArrayList<>(chunkSize);
+        List<Integer> indexes = new ArrayList<>(chunkSize);
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            String reason = validate(order);
+            if (reason != null) {
+                result.fail(i, reason);
+                continue;
+            }
+            prepare(order, now, batchWorkMinutes);
+            chunk.add(order);
+            indexes.add(i);
+            if (chunk.size() == chunkSize) {
+                saveChunk(chunk, indexes, result);
+                chunk = new ArrayList<>(chunkSize);
+                indexes = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, indexes, result);
+        }
+
+        acceptedOrders.increment(result.getAccepted());
+        failedOrders.increment(result.getFailed());
+        batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        System.out.println("주문 일괄 생성: 성공 " + result.getAccepted() + "건, 실패 " + result.getFailed() + "건");
+        return result;
+    }
+
+    private void saveChunk(List<Order> chunk, List<Integer> indexes, BatchOrderResult result) {
+        try {
+            save(chunk);
+            chunk.forEach(order -> result.accept(order.getId()));
+        } catch (RuntimeException e) {
+            // DB 에서 한 건만 실패해도(예: 컬럼 길이 초과) 청크 전체가 롤백되므로
+            // 건별 트랜잭션으로 다시 저장해 실제로 저장할 수 없는 주문만 실패로 보고
+            System.out.println("주문 일괄 생성 청크 실패, 건별 재시도: " + e.getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                Order order = chunk.get(i);
+                clearIds(order);
+                try {
+                    save(List.of(order));
+                    result.accept(order.getId());
+                } catch (RuntimeException single) {
+                    result.fail(indexes.get(i), "저장 실패: " + single.getClass().getSimpleName());
+                }
+            }
+        }
+    }
+
+    private void save(List<Order> orders) {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.saveAll(orders);
+            messageProducer.sendOrderCreatedEvents(orders);
+            // 청크마다 영속성 컨텍스트를 비워 대량 요청에서도 메모리/더티체킹 비용을 일정하게 유지
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    // 롤백된 트랜잭션에서 시퀀스로 할당된 ID 를 지워 재시도 시 새 엔티티로 저장
+    private void clearIds(Order order) {
+        order.setId(null);
+        if (order.getItems() != null) {
+            order.getItems().forEach(item -> item.setId(null));
+        }
+    }
+
+    // 검증 실패 사유, 정상이면 null
+    public String validate(Order order) {
+        if (order == null) {
+            return "주문이 비어 있음";
+        }
+        if (order.getCustomerName() == null || order.getCustomerName().isBlank()) {
+            return "고객명 누락";
+        }
+        if (order.getQuantity() != null && order.getQuantity() < 1) {
+            return "수량은 1 이상이어야 함";
+        }
+        if (order.getItems() != null) {
+            for (OrderItem item : order.getItems()) {
+                if (item.getQuantity() == null || item.getQuantity() < 1 || item.getPreparationTime() == null) {
+                    return "주문 항목의 수량 또는 준비시간이 올바르지 않음";
+                }
+            }
+        }
+        return null;
+    }
+
+    // 단건 생성(POST /api/orders)과 같은 기본값 적용
+    private void prepare(Order order, LocalDateTime now, Map<Long, Long> batchWorkMinutes) {
+        order.setId(null);
+        order.setOrderDate(now);
+        order.setStatus("PENDING");
+        if (order.getItems() != null && !order.getItems().isEmpty()) {
+            int preparationMinutes = StoreQueueIndex.preparationMinutes(order);
+            long aheadInBatch = order.getStoreId() != null
+                    ? batchWorkMinutes.merge(order.getStoreId(), (long) preparationMinutes, Long::sum) - preparationMinutes
+                    : 0;
+            order.setEstimatedCompletionTime(storeQueueIndex.estimateCompletion(
+                    order.getStoreId(), now, preparationMinutes, aheadInBatch));
+            order.getItems().forEach(item -> {
+                item.setId(null);
+                item.setOrder(order);
+            });
+        }
+    }
+}
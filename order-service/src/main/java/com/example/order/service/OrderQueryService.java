@@ -0,0 +1,75 @@
+package com.example.order.service;
+
+import com.example.order.dto.OrderItemSummary;
+import com.example.order.dto.OrderPage;
+import com.example.order.dto.OrderSummary;
+import com.example.order.repository.OrderItemRepository;
+import com.example.order.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 주문 목록 조회 전용 서비스
+// 페이지 크기와 상관없이 주문 1회 + 주문 항목 1회, 총 2번의 쿼리로 조회
+@Service
+@Transactional(readOnly = true)
+public class OrderQueryService {
+
+    // 주방 화면/실시간 스트림에 표시하는 진행 중 상태
+    public static final List<String> ACTIVE_STATUSES = List.of("PENDING", "PROCESSING");
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Value("${order.query.max-page-size:100}")
+    private int maxPageSize;
+
+    public OrderPage findOrders(Long cursor, int size) {
+        int limit = limit(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        return toPage(orderRepository.findSummaries(cursor, PageRequest.of(0, limit + 1)), limit);
+    }
+
+    public OrderPage findOrdersByStore(Long storeId, Long cursor, int size) {
+        int limit = limit(size);
+        return toPage(orderRepository.findSummariesByStoreId(storeId, cursor, PageRequest.of(0, limit + 1)), limit);
+    }
+
+    public List<OrderSummary> findActiveOrders(Long storeId) {
+        List<OrderSummary> orders = orderRepository.findSummariesByStoreIdAndStatusIn(storeId, ACTIVE_STATUSES);
+        attachItems(orders);
+        return orders;
+    }
+
+    private OrderPage toPage(List<OrderSummary> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<OrderSummary> content = hasNext ? rows.subList(0, limit) : rows;
+        attachItems(content);
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+        return new OrderPage(List.copyOf(content), nextCursor, hasNext);
+    }
+
+    private void attachItems(List<OrderSummary> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<Long> orderIds = orders.stream().map(OrderSummary::getId).collect(Collectors.toList());
+        Map<Long, List<OrderItemSummary>> itemsByOrder = orderItemRepository.findSummariesByOrderIds(orderIds)
+                .stream()
+                .collect(Collectors.groupingBy(OrderItemSummary::getOrderId));
+        orders.forEach(order -> order.setItems(itemsByOrder.getOrDefault(order.getId(), List.of())));
+    }
+
+    private int limit(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+}
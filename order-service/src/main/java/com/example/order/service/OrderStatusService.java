@@ -0,0 +1,84 @@
+package com.example.order.service;
+
+import com.example.order.dto.BulkStatusResult;
+import com.example.order.dto.OrderStatusRow;
+import com.example.order.messaging.OrderMessageProducer;
+import com.example.order.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 주문 상태 일괄 변경 (주방 마감 처리 등)
+// 대상 행을 잠가 현재 상태를 읽은 뒤, 허용된 이전 상태 조건을 건 UPDATE 한 번으로 변경 (엔티티 로딩/건별 save 없음)
+@Service
+public class OrderStatusService {
+
+    // 변경할 상태 -> 허용되는 이전 상태
+    private static final Map<String, Set<String>> TRANSITIONS = Map.of(
+            "PROCESSING", Set.of("PENDING"),
+            "COMPLETED", Set.of("PENDING", "PROCESSING"),
+            "CANCELLED", Set.of("PENDING", "PROCESSING")
+    );
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderMessageProducer messageProducer;
+
+    @Value("${order.status.bulk-max-size:1000}")
+    private int maxSize;
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isTransitionTarget(String status) {
+        return TRANSITIONS.containsKey(status);
+    }
+
+    @Transactional
+    public BulkStatusResult transition(List<Long> ids, String status) {
+        Set<String> from = TRANSITIONS.get(status);
+        if (from == null) {
+            throw new IllegalArgumentException("일괄 변경할 수 없는 상태: " + status);
+        }
+        List<Long> distinctIds = ids.stream().distinct().collect(Collectors.toList());
+
+        // 잠근 상태로 읽었으므로 아래 UPDATE 가 바꾸는 행은 from 상태였던 행과 정확히 일치
+        Map<Long, OrderStatusRow> rows = orderRepository.lockStatuses(distinctIds).stream()
+                .collect(Collectors.toMap(OrderStatusRow::getId, Function.identity()));
+        List<OrderStatusRow> eligible = rows.values().stream()
+                .filter(row -> from.contains(row.getStatus()))
+                .collect(Collectors.toList());
+
+        int updated = eligible.isEmpty() ? 0 : orderRepository.updateStatus(distinctIds, from, status);
+        if (updated != eligible.size()) {
+            throw new IllegalStateException("상태 일괄 변경 건수 불일치: 예상 " + eligible.size() + ", 실제 " + updated);
+        }
+
+        BulkStatusResult result = new BulkStatusResult(status);
+        for (Long id : distinctIds) {
+            OrderStatusRow row = rows.get(id);
+            if (row == null) {
+                result.add(id, BulkStatusResult.NOT_FOUND, null);
+            } else if (from.contains(row.getStatus())) {
+                result.add(id, BulkStatusResult.UPDATED, row.getStatus());
+            } else {
+                result.add(id, BulkStatusResult.INVALID_TRANSITION, row.getStatus());
+            }
+        }
+
+        if (!eligible.isEmpty()) {
+            messageProducer.sendOrderStatusChangedEvents(eligible, status);
+        }
+        return result;
+    }
+}
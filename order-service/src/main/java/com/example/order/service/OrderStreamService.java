@@ -0,0 +1,217 @@
+package com.example.order.service;
+
+import com.example.order.messaging.OrderChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 매장별 실시간 주문 스트림 (SSE)
+// 연결 시 진행 중 주문 스냅샷을 한 번 보내고, 이후에는 커밋된 생성/상태 변경 이벤트만 전달
+// 연결마다 전송 대기 큐(buffer-size)를 두고 소수의 전송 스레드가 돌아가며 비움
+// 대기 큐가 넘치는 느린 연결은 끊음 (EventSource 가 재연결하면서 새 스냅샷을 받음)
+@Service
+public class OrderStreamService {
+
+    private static final int MAX_FRAMES_PER_RUN = 64;
+
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${order.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${order.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${order.stream.send-threads:4}")
+    private int sendThreads;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private ExecutorService sender;
+    private Counter overflows;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("order.stream.connections", connections, AtomicInteger::get).register(meterRegistry);
+        overflows = meterRegistry.counter("order.stream.overflow");
+    }
+
+    public SseEmitter subscribe(Long storeId) throws JsonProcessingException {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(storeId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 스냅샷 조회 전에 먼저 등록: 조회 중 커밋된 변경은 스냅샷 뒤에 전달됨 (중복은 클라이언트가 주문 id 로 덮어씀)
+        subscribers.computeIfAbsent(storeId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        connections.incrementAndGet();
+        String snapshot;
+        try {
+            snapshot = objectMapper.writeValueAsString(orderQueryService.findActiveOrders(storeId));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // emitter 를 돌려주지 못하면 완료 콜백도 호출되지 않으므로 직접 등록 해제
+            remove(subscriber);
+            throw e;
+        }
+        subscriber.start(new Frame("snapshot", snapshot));
+        return emitter;
+    }
+
+    // 트랜잭션 커밋 후에만 전달 (롤백된 변경은 스트림에 나가지 않음)
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        Set<Subscriber> targets = event.storeId() != null ? subscribers.get(event.storeId()) : null;
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        String data;
+        try {
+            // 연결 수와 상관없이 이벤트당 한 번만 직렬화
+            data = objectMapper.writeValueAsString(event.payload());
+        } catch (JsonProcessingException e) {
+            System.out.println("주문 스트림 이벤트 직렬화 실패: " + e.getMessage());
+            return;
+        }
+        Frame frame = new Frame(event.type(), data);
+        targets.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    // 유휴 연결 유지 및 끊긴 연결 정리용 주석 이벤트
+    @Scheduled(fixedRateString = "${order.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Frame ping = new Frame(null, null);
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.offer(ping)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdown();
+    }
+
+    private void remove(Subscriber subscriber) {
+        Set<Subscriber> targets = subscribers.get(subscriber.storeId);
+        if (targets != null && targets.remove(subscriber)) {
+            connections.decrementAndGet();
+        }
+    }
+
+    // name 이 null 이면 heartbeat
+    private record Frame(String name, String data) {
+    }
+
+    private class Subscriber implements Runnable {
+        private final Long storeId;
+        private final SseEmitter emitter;
+
+        // 아래 필드는 this 로 보호
+        private final Deque<Frame> pending = new ArrayDeque<>();
+        private boolean started;
+        private boolean scheduled;
+        private boolean closed;
+
+        Subscriber(Long storeId, SseEmitter emitter) {
+            this.storeId = storeId;
+            this.emitter = emitter;
+        }
+
+        void start(Frame snapshot) {
+            synchronized (this) {
+                pending.addFirst(snapshot);
+                started = true;
+                scheduled = true;
+            }
+            sender.execute(this);
+        }
+
+        void offer(Frame frame) {
+            boolean overflow = false;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (pending.size() >= bufferSize) {
+                    closed = true;
+                    pending.clear();
+                    overflow = true;
+                } else {
+                    pending.add(frame);
+                    if (!started || scheduled) {
+                        return;
+                    }
+                    scheduled = true;
+                }
+            }
+            if (overflow) {
+                overflows.increment();
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            sender.execute(this);
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_FRAMES_PER_RUN; i++) {
+                Frame frame;
+                synchronized (this) {
+                    frame = closed ? null : pending.poll();
+                    if (frame == null) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(frame.name() == null
+                            ? SseEmitter.event().comment("ping")
+                            : SseEmitter.event().name(frame.name()).data(frame.data()));
+                } catch (IOException | IllegalStateException e) {
+                    synchronized (this) {
+                        closed = true;
+                        pending.clear();
+                        scheduled = false;
+                    }
+                    remove(this);
+                    return;
+                }
+            }
+            // 한 연결이 전송 스레드를 오래 잡지 않도록 나머지는 다시 큐에 넣어 처리
+            sender.execute(this);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.order.service;
+
+import com.example.order.dto.ActiveOrder;
+import com.example.order.dto.StoreQueueStatus;
+import com.example.order.messaging.OrderChangedEvent;
+import com.example.order.model.Order;
+import com.example.order.model.OrderItem;
+import com.example.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// 매장별 진행 중(PENDING, PROCESSING) 주문 인덱스
+// 주문 생성/상태 변경이 커밋될 때마다 갱신하고, 대기 주문 수와 남은 준비시간 합계를 유지해 대기열 조회와 예상 완료 시간 계산을 O(1) 로 처리
+// 시작 시 DB 의 진행 중 주문으로 한 번 재구성
+@Service
+public class StoreQueueIndex implements SmartInitializingSingleton {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 매장에서 동시에 제조할 수 있는 주문 수
+    @Value("${order.queue.parallelism:2}")
+    private int parallelism;
+
+    // 아래 필드는 this 로 보호
+    private final Map<Long, ActiveOrder> orders = new HashMap<>();
+    private final Map<Long, StoreQueue> stores = new HashMap<>();
+
+    // 모든 싱글톤(초기 데이터 스크립트 포함) 생성 후, 웹 서버가 요청을 받기 전에 재구성
+    @Override
+    public void afterSingletonsInstantiated() {
+        synchronized (this) {
+            orders.clear();
+            stores.clear();
+            orderRepository.findActiveOrders(OrderQueryService.ACTIVE_STATUSES).forEach(this::add);
+        }
+        Gauge.builder("order.queue.active", this, StoreQueueIndex::size).register(meterRegistry);
+        System.out.println("매장 대기열 인덱스 구성: 진행 중 주문 " + size() + "건");
+    }
+
+    // 주문의 준비시간 = 항목 준비시간 중 최댓값
+    public static int preparationMinutes(Order order) {
+        if (order.getItems() == null) {
+            return 0;
+        }
+        return order.getItems().stream()
+                .map(OrderItem::getPreparationTime)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(0);
+    }
+
+    // 대기열을 고려한 예상 완료 시간: 앞선 주문의 남은 준비시간을 동시 제조 수로 나눈 대기시간 + 자기 준비시간
+    // extraWorkMinutes: 아직 커밋되지 않았지만 앞에 놓일 주문의 준비시간 (일괄 생성 시 같은 배치 안의 앞선 주문)
+    public synchronized LocalDateTime estimateCompletion(Long storeId, LocalDateTime from, int preparationMinutes,
+                                                         long extraWorkMinutes) {
+        StoreQueue queue = storeId != null ? stores.get(storeId) : null;
+        long work = (queue != null ? queue.workMinutes : 0) + extraWorkMinutes;
+        return from.plusMinutes(waitMinutes(work) + preparationMinutes);
+    }
+
+    public synchronized StoreQueueStatus status(Long storeId, LocalDateTime now) {
+        StoreQueue queue = stores.get(storeId);
+        int depth = queue != null ? queue.depth : 0;
+        long work = queue != null ? queue.workMinutes : 0;
+        long wait = waitMinutes(work);
+        return new StoreQueueStatus(storeId, depth, work, wait, now.plusMinutes(wait));
+    }
+
+    // 생성/수정된 주문 반영: 진행 중이면 추가(또는 교체), 아니면 제거
+    public synchronized void track(Long orderId, Long storeId, String status, int preparationMinutes) {
+        remove(orderId);
+        if (storeId != null && OrderQueryService.ACTIVE_STATUSES.contains(status)) {
+            add(new ActiveOrder(orderId, storeId, preparationMinutes));
+        }
+    }
+
+    public synchronized void remove(Long orderId) {
+        ActiveOrder removed = orders.remove(orderId);
+        if (removed == null) {
+            return;
+        }
+        StoreQueue queue = stores.get(removed.getStoreId());
+        queue.depth--;
+        queue.workMinutes -= removed.getPreparationTime();
+        if (queue.depth == 0) {
+            stores.remove(removed.getStoreId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        if ("order.created".equals(event.type()) && event.payload() instanceof Order) {
+            track(event.orderId(), event.storeId(), event.status(), preparationMinutes((Order) event.payload()));
+        } else if ("order.status.changed".equals(event.type())) {
+            updateStatus(event.orderId(), event.storeId(), event.status());
+        }
+    }
+
+    private synchronized void updateStatus(Long orderId, Long storeId, String status) {
+        if (!OrderQueryService.ACTIVE_STATUSES.contains(status)) {
+            remove(orderId);
+        } else if (!orders.containsKey(orderId) && storeId != null) {
+            // 준비시간을 모르는 주문(완료 후 되돌린 경우 등)은 대기 수에만 반영
+            add(new ActiveOrder(orderId, storeId, 0));
+        }
+    }
+
+    private void add(ActiveOrder order) {
+        if (order.getStoreId() == null) {
+            return;
+        }
+        orders.put(order.getId(), order);
+        StoreQueue queue = stores.computeIfAbsent(order.getStoreId(), id -> new StoreQueue());
+        queue.depth++;
+        queue.workMinutes += order.getPreparationTime();
+    }
+
+    private long waitMinutes(long workMinutes) {
+        return (workMinutes + parallelism - 1) / parallelism;
+    }
+
+    private synchronized int size() {
+        return orders.size();
+    }
+
+    private static class StoreQueue {
+        private int depth;
+        private long workMinutes;
+    }
+}
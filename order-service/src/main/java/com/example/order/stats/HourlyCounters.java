@@ -0,0 +1,233 @@
+package com.example.order.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// (ID, 시간 버킷) -> 판매 집계값 테이블
+// 키를 long 하나로 묶어 오픈 어드레싱(선형 탐사)으로 저장, 값도 기본형 배열이라 박싱/엔트리 객체 없음
+// 동기화는 사용하는 쪽(SalesAggregator)에서 처리
+class HourlyCounters {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    // 하위 24비트: epoch 기준 시간 수 (약 1900년분), 상위 39비트: 매장/상품 ID
+    private static final int HOUR_BITS = 24;
+    private static final long HOUR_MASK = (1L << HOUR_BITS) - 1;
+    static final long MAX_ID = (1L << (63 - HOUR_BITS)) - 1;
+
+    private long[] keys;
+    private long[] orders;
+    private long[] quantity;
+    private double[] revenue;
+    private long[] completed;
+    private long[] cancelled;
+    // 마지막 체크포인트 이후 변경된 슬롯
+    private boolean[] dirty;
+    private int size;
+
+    HourlyCounters(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    void add(long id, long hour, long orders, long quantity, double revenue, long completed, long cancelled) {
+        int slot = slotFor((id << HOUR_BITS) | hour);
+        this.orders[slot] += orders;
+        this.quantity[slot] += quantity;
+        this.revenue[slot] += revenue;
+        this.completed[slot] += completed;
+        this.cancelled[slot] += cancelled;
+        dirty[slot] = true;
+    }
+
+    // 체크포인트에서 읽어 온 값으로 설정 (변경 표시 없음)
+    void load(Bucket bucket) {
+        int slot = slotFor((bucket.id() << HOUR_BITS) | bucket.hour());
+        orders[slot] = bucket.orders();
+        quantity[slot] = bucket.quantity();
+        revenue[slot] = bucket.revenue();
+        completed[slot] = bucket.completed();
+        cancelled[slot] = bucket.cancelled();
+    }
+
+    Bucket get(long id, long hour) {
+        int slot = find((id << HOUR_BITS) | hour);
+        return slot < 0 ? null : bucketAt(slot);
+    }
+
+    // fromHour 이상 toHour 미만 버킷 (id 가 null 이면 전체)
+    List<Bucket> range(Long id, long fromHour, long toHour) {
+        List<Bucket> result = new ArrayList<>();
+        if (id != null && toHour - fromHour <= size) {
+            // 특정 ID 는 시간 수만큼 키 조회
+            for (long hour = fromHour; hour < toHour; hour++) {
+                Bucket bucket = get(id, hour);
+                if (bucket != null) {
+                    result.add(bucket);
+                }
+            }
+            return result;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] == EMPTY) {
+                continue;
+            }
+            long hour = keys[slot] & HOUR_MASK;
+            if (hour >= fromHour && hour < toHour && (id == null || keys[slot] >>> HOUR_BITS == id)) {
+                result.add(bucketAt(slot));
+            }
+        }
+        return result;
+    }
+
+    // 변경된 버킷을 꺼내고 변경 표시를 지움
+    List<Bucket> drainDirty() {
+        List<Bucket> result = new ArrayList<>();
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (dirty[slot]) {
+                dirty[slot] = false;
+                result.add(bucketAt(slot));
+            }
+        }
+        return result;
+    }
+
+    // 체크포인트 저장에 실패한 버킷을 다시 변경 상태로 표시
+    void markDirty(List<Bucket> buckets) {
+        for (Bucket bucket : buckets) {
+            int slot = find((bucket.id() << HOUR_BITS) | bucket.hour());
+            if (slot >= 0) {
+                dirty[slot] = true;
+            }
+        }
+    }
+
+    // beforeHour 이전의 저장 완료된 버킷을 메모리에서 제거 (테이블 재구성)
+    void evictBefore(long beforeHour) {
+        long[] oldKeys = keys;
+        long[] oldOrders = orders;
+        long[] oldQuantity = quantity;
+        double[] oldRevenue = revenue;
+        long[] oldCompleted = completed;
+        long[] oldCancelled = cancelled;
+        boolean[] oldDirty = dirty;
+
+        int retained = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY && ((oldKeys[slot] & HOUR_MASK) >= beforeHour || oldDirty[slot])) {
+                retained++;
+            }
+        }
+        if (retained == size) {
+            return;
+        }
+        allocate(tableSizeFor(retained));
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] == EMPTY || ((oldKeys[slot] & HOUR_MASK) < beforeHour && !oldDirty[slot])) {
+                continue;
+            }
+            int target = slotFor(oldKeys[slot]);
+            orders[target] = oldOrders[slot];
+            quantity[target] = oldQuantity[slot];
+            revenue[target] = oldRevenue[slot];
+            completed[target] = oldCompleted[slot];
+            cancelled[target] = oldCancelled[slot];
+            dirty[target] = oldDirty[slot];
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private Bucket bucketAt(int slot) {
+        return new Bucket(keys[slot] >>> HOUR_BITS, keys[slot] & HOUR_MASK, orders[slot], quantity[slot],
+                revenue[slot], completed[slot], cancelled[slot]);
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int slotFor(long key) {
+        // 적재율 0.75 초과 시 두 배로 확장
+        if ((size + 1) * 4L > keys.length * 3L) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        size++;
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldOrders = orders;
+        long[] oldQuantity = quantity;
+        double[] oldRevenue = revenue;
+        long[] oldCompleted = completed;
+        long[] oldCancelled = cancelled;
+        boolean[] oldDirty = dirty;
+
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int slot = mix(oldKeys[i]) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            orders[slot] = oldOrders[i];
+            quantity[slot] = oldQuantity[i];
+            revenue[slot] = oldRevenue[i];
+            completed[slot] = oldCompleted[i];
+            cancelled[slot] = oldCancelled[i];
+            dirty[slot] = oldDirty[i];
+            size++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        orders = new long[capacity];
+        quantity = new long[capacity];
+        revenue = new double[capacity];
+        completed = new long[capacity];
+        cancelled = new long[capacity];
+        dirty = new boolean[capacity];
+        size = 0;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity * 3L < expectedSize * 4L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // hour: epoch 기준 시간 수
+    record Bucket(long id, long hour, long orders, long quantity, double revenue, long completed, long cancelled) {
+    }
+}
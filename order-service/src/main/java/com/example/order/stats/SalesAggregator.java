@@ -0,0 +1,283 @@
+package com.example.order.stats;
+
+import com.example.order.dto.SalesBucket;
+import com.example.order.messaging.OrderChangedEvent;
+import com.example.order.model.Order;
+import com.example.order.model.OrderItem;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 매장별/상품별 시간 단위 판매 집계
+// 주문 생성/상태 변경이 커밋될 때마다 메모리 카운터를 증가시키고, 주기적으로 변경된 버킷만 SALES_SUMMARY 에 저장(체크포인트)
+// 보관 기간(retention-hours) 안의 조회는 메모리에서, 그 이전 기간은 SALES_SUMMARY 에서 처리 (ORDERS 테이블은 조회하지 않음)
+// 마지막 체크포인트 이후의 증가분은 비정상 종료 시 유실될 수 있음 (정상 종료 시에는 저장 후 종료)
+// 주문 수정/삭제는 주문 시각 버킷에서 이전 값을 빼고 새 값을 더함 (보관 기간 이전 버킷은 체크포인트 값을 덮어쓰므로 반영하지 않음)
+@Service
+public class SalesAggregator implements SmartInitializingSingleton {
+
+    public static final String STORE = "STORE";
+    public static final String PRODUCT = "PRODUCT";
+
+    // 완료/취소 건수는 진행 중 상태에서 처음 종료 상태로 바뀔 때만 집계 (재요청, 취소 -> 완료 등은 제외)
+    private static final Set<String> TERMINAL_STATUSES = Set.of("COMPLETED", "CANCELLED");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${order.stats.retention-hours:168}")
+    private int retentionHours;
+
+    // 아래 테이블은 this 로 보호
+    private final HourlyCounters stores = new HourlyCounters(1024);
+    private final HourlyCounters products = new HourlyCounters(4096);
+
+    // 체크포인트에 저장된 보관 기간 내 버킷을 메모리로 적재
+    @Override
+    public void afterSingletonsInstantiated() {
+        Timestamp cutoff = Timestamp.valueOf(toTime(cutoffHour()));
+        synchronized (this) {
+            jdbcTemplate.query("select dimension, dimension_id, bucket_start, order_count, quantity, revenue, "
+                    + "completed_count, cancelled_count from SALES_SUMMARY where bucket_start >= ?", rs -> {
+                HourlyCounters.Bucket bucket = new HourlyCounters.Bucket(rs.getLong("dimension_id"),
+                        toHour(rs.getTimestamp("bucket_start").toLocalDateTime()), rs.getLong("order_count"),
+                        rs.getLong("quantity"), rs.getDouble("revenue"), rs.getLong("completed_count"),
+                        rs.getLong("cancelled_count"));
+                table(rs.getString("dimension")).load(bucket);
+            }, cutoff);
+        }
+        Gauge.builder("order.stats.buckets", this, SalesAggregator::bucketCount).register(meterRegistry);
+        System.out.println("판매 집계 체크포인트 적재: " + bucketCount() + "개 버킷");
+    }
+
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        if ("order.created".equals(event.type()) && event.payload() instanceof Order) {
+            apply(contributionOf((Order) event.payload()), 1);
+        } else if ("order.status.changed".equals(event.type()) && event.storeId() != null
+                && isValidId(event.storeId()) && !isTerminal(event.previousStatus())) {
+            long completed = "COMPLETED".equals(event.status()) ? 1 : 0;
+            long cancelled = "CANCELLED".equals(event.status()) ? 1 : 0;
+            if (completed + cancelled > 0) {
+                synchronized (this) {
+                    stores.add(event.storeId(), toHour(LocalDateTime.now()), 0, 0, 0, completed, cancelled);
+                }
+            }
+        }
+    }
+
+    // 주문 한 건이 집계에 더하는 값 (주문 시각 버킷 기준)
+    public Contribution contributionOf(Order order) {
+        long hour = toHour(order.getOrderDate() != null ? order.getOrderDate() : LocalDateTime.now());
+        List<OrderItem> items = order.getItems();
+        long quantity = items != null && !items.isEmpty()
+                ? items.stream().mapToLong(item -> item.getQuantity() != null ? item.getQuantity() : 0).sum()
+                : (order.getQuantity() != null ? order.getQuantity() : 0);
+        double revenue = order.getTotalPrice() != null ? order.getTotalPrice() : 0;
+
+        List<ProductLine> lines = new ArrayList<>();
+        if (items != null && !items.isEmpty()) {
+            for (OrderItem item : items) {
+                long itemQuantity = item.getQuantity() != null ? item.getQuantity() : 0;
+                double itemRevenue = item.getPrice() != null ? item.getPrice() * itemQuantity : 0;
+                lines.add(new ProductLine(item.getProductId(), itemQuantity, itemRevenue));
+            }
+        } else {
+            lines.add(new ProductLine(order.getProductId(), quantity, revenue));
+        }
+        return new Contribution(order.getStoreId(), hour, quantity, revenue, lines);
+    }
+
+    // 주문 수정/삭제: 이전 기여분을 빼고 새 기여분을 더함 (삭제는 after 가 null)
+    public synchronized void replace(Contribution before, Contribution after) {
+        if (before != null) {
+            apply(before, -1);
+        }
+        if (after != null) {
+            apply(after, 1);
+        }
+    }
+
+    private synchronized void apply(Contribution contribution, int sign) {
+        // 보관 기간 이전 버킷은 메모리에 없으므로 증감분만 저장하면 체크포인트 누적값을 덮어씀
+        if (contribution.hour() < cutoffHour()) {
+            return;
+        }
+        if (contribution.storeId() != null && isValidId(contribution.storeId())) {
+            stores.add(contribution.storeId(), contribution.hour(), sign, sign * contribution.quantity(),
+                    sign * contribution.revenue(), 0, 0);
+        }
+        for (ProductLine line : contribution.products()) {
+            if (line.productId() == null || !isValidId(line.productId())) {
+                continue;
+            }
+            products.add(line.productId(), contribution.hour(), sign, sign * line.quantity(),
+                    sign * line.revenue(), 0, 0);
+        }
+    }
+
+    // 변경된 버킷의 현재 누적값을 MERGE (같은 버킷을 여러 번 저장해도 결과 동일)
+    @Scheduled(fixedDelayString = "${order.stats.checkpoint-ms:10000}")
+    public void checkpoint() {
+        List<HourlyCounters.Bucket> storeBuckets;
+        List<HourlyCounters.Bucket> productBuckets;
+        synchronized (this) {
+            storeBuckets = stores.drainDirty();
+            productBuckets = products.drainDirty();
+        }
+        if (!storeBuckets.isEmpty() || !productBuckets.isEmpty()) {
+            List<Object[]> rows = new ArrayList<>(storeBuckets.size() + productBuckets.size());
+            storeBuckets.forEach(bucket -> rows.add(toRow(STORE, bucket)));
+            productBuckets.forEach(bucket -> rows.add(toRow(PRODUCT, bucket)));
+            try {
+                jdbcTemplate.batchUpdate("merge into SALES_SUMMARY (dimension, dimension_id, bucket_start, "
+                        + "order_count, quantity, revenue, completed_count, cancelled_count) "
+                        + "key (dimension, dimension_id, bucket_start) values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+            } catch (RuntimeException e) {
+                System.out.println("판매 집계 체크포인트 실패: " + e.getMessage());
+                synchronized (this) {
+                    stores.markDirty(storeBuckets);
+                    products.markDirty(productBuckets);
+                }
+                return;
+            }
+        }
+        // 저장이 끝난 보관 기간 이전 버킷은 메모리에서 제거
+        synchronized (this) {
+            long cutoff = cutoffHour();
+            stores.evictBefore(cutoff);
+            products.evictBefore(cutoff);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        checkpoint();
+    }
+
+    // 시간 단위 버킷 목록 (id 가 null 이면 해당 차원의 전체 ID)
+    public List<SalesBucket> buckets(String dimension, Long id, LocalDateTime from, LocalDateTime to) {
+        long fromHour = toHour(from);
+        long toHour = toHour(to) + 1;
+        long cutoff = cutoffHour();
+
+        List<SalesBucket> result = new ArrayList<>();
+        if (fromHour < cutoff) {
+            result.addAll(fromSummary(dimension, id, fromHour, Math.min(toHour, cutoff)));
+        }
+        if (toHour > cutoff) {
+            List<HourlyCounters.Bucket> buckets;
+            synchronized (this) {
+                buckets = table(dimension).range(id, Math.max(fromHour, cutoff), toHour);
+            }
+            buckets.forEach(bucket -> result.add(toSalesBucket(bucket)));
+        }
+        result.sort(Comparator.comparing(SalesBucket::getBucketStart).thenComparing(SalesBucket::getId));
+        return result;
+    }
+
+    // 기간 내 판매 수량 상위 상품 (버킷을 상품별로 합산)
+    public List<SalesBucket> topProducts(LocalDateTime from, LocalDateTime to, int limit) {
+        Map<Long, long[]> counts = new HashMap<>();
+        Map<Long, Double> revenues = new HashMap<>();
+        for (SalesBucket bucket : buckets(PRODUCT, null, from, to)) {
+            long[] total = counts.computeIfAbsent(bucket.getId(), id -> new long[2]);
+            total[0] += bucket.getOrders();
+            total[1] += bucket.getQuantity();
+            revenues.merge(bucket.getId(), bucket.getRevenue(), Double::sum);
+        }
+        LocalDateTime bucketStart = toTime(toHour(from));
+        return counts.entrySet().stream()
+                .map(entry -> new SalesBucket(entry.getKey(), bucketStart, entry.getValue()[0], entry.getValue()[1],
+                        revenues.get(entry.getKey()), 0, 0))
+                .sorted(Comparator.comparingLong(SalesBucket::getQuantity).reversed()
+                        .thenComparing(Comparator.comparingDouble(SalesBucket::getRevenue).reversed()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public static boolean isDimension(String dimension) {
+        return STORE.equals(dimension) || PRODUCT.equals(dimension);
+    }
+
+    private List<SalesBucket> fromSummary(String dimension, Long id, long fromHour, long toHour) {
+        String sql = "select dimension_id, bucket_start, order_count, quantity, revenue, completed_count, "
+                + "cancelled_count from SALES_SUMMARY where dimension = ? and bucket_start >= ? and bucket_start < ?"
+                + (id != null ? " and dimension_id = ?" : "");
+        List<Object> args = new ArrayList<>(List.of(dimension, Timestamp.valueOf(toTime(fromHour)),
+                Timestamp.valueOf(toTime(toHour))));
+        if (id != null) {
+            args.add(id);
+        }
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new SalesBucket(rs.getLong("dimension_id"),
+                rs.getTimestamp("bucket_start").toLocalDateTime(), rs.getLong("order_count"), rs.getLong("quantity"),
+                rs.getDouble("revenue"), rs.getLong("completed_count"), rs.getLong("cancelled_count")),
+                args.toArray());
+    }
+
+    public record Contribution(Long storeId, long hour, long quantity, double revenue, List<ProductLine> products) {
+    }
+
+    public record ProductLine(Long productId, long quantity, double revenue) {
+    }
+
+    private HourlyCounters table(String dimension) {
+        return PRODUCT.equals(dimension) ? products : stores;
+    }
+
+    private Object[] toRow(String dimension, HourlyCounters.Bucket bucket) {
+        return new Object[]{dimension, bucket.id(), Timestamp.valueOf(toTime(bucket.hour())), bucket.orders(),
+                bucket.quantity(), bucket.revenue(), bucket.completed(), bucket.cancelled()};
+    }
+
+    private SalesBucket toSalesBucket(HourlyCounters.Bucket bucket) {
+        return new SalesBucket(bucket.id(), toTime(bucket.hour()), bucket.orders(), bucket.quantity(),
+                bucket.revenue(), bucket.completed(), bucket.cancelled());
+    }
+
+    private long cutoffHour() {
+        return toHour(LocalDateTime.now()) - retentionHours;
+    }
+
+    private synchronized int bucketCount() {
+        return stores.size() + products.size();
+    }
+
+    private static boolean isTerminal(String status) {
+        return status != null && TERMINAL_STATUSES.contains(status);
+    }
+
+    private static boolean isValidId(long id) {
+        return id >= 0 && id <= HourlyCounters.MAX_ID;
+    }
+
+    // LocalDateTime(서버 로컬 시각)을 그대로 epoch 기준 시간 수로 변환
+    private static long toHour(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    private static LocalDateTime toTime(long hour) {
+        return LocalDateTime.ofEpochSecond(hour * 3600, 0, ZoneOffset.UTC);
+    }
+}
@@ -1,10 +1,29 @@
 CREATE TABLE IF NOT EXISTS ORDERS (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     product_id BIGINT NOT NULL,
     quantity INT NOT NULL,
     total_price DOUBLE NOT NULL,
     customer_name VARCHAR(100) NOT NULL,
     customer_email VARCHAR(100) NOT NULL,
     order_date TIMESTAMP NOT NULL,
-    status VARCHAR(20) NOT NULL
-); 
\ No newline at end of file
+    status VARCHAR(20) NOT NULL,
+    store_id BIGINT,
+    estimated_completion_time TIMESTAMP
+);
+
+-- 주문/주문 항목 ID 는 시퀀스에서 50개 단위로 할당 (JDBC 배치 insert 가능, 엔티티의 allocationSize 와 같아야 함)
+CREATE SEQUENCE IF NOT EXISTS ORDERS_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS ORDER_ITEMS_SEQ START WITH 1 INCREMENT BY 50;
+
+-- 매장/상품별 시간 단위 판매 집계 체크포인트 (SalesAggregator)
+CREATE TABLE IF NOT EXISTS SALES_SUMMARY (
+    dimension VARCHAR(10) NOT NULL,
+    dimension_id BIGINT NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    order_count BIGINT NOT NULL,
+    quantity BIGINT NOT NULL,
+    revenue DOUBLE NOT NULL,
+    completed_count BIGINT NOT NULL,
+    cancelled_count BIGINT NOT NULL,
+    PRIMARY KEY (dimension, dimension_id, bucket_start)
+);
@@ -0,0 +1,116 @@
+package com.example.order.config;
+
+import com.example.order.model.Order;
+import com.example.order.model.OrderItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 주문 생성 이벤트(Order + 항목) 메시지 형식 비교: JSON vs Smile
+// 직렬화/역직렬화 시간은 JMH 결과, 메시지당 바이트 수는 시작 시 출력
+// 실행: ./gradlew :order-service:jmh -Pjmh.includes=WireFormatBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int itemCount;
+
+    private MessageConverter json;
+    private MessageConverter smile;
+    private Order order;
+    private Message jsonMessage;
+    private Message smileMessage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // RabbitMQConfig.messageConverter 와 같은 ObjectMapper 설정
+        json = new Jackson2JsonMessageConverter(configure(new ObjectMapper()));
+        smile = new Jackson2SmileMessageConverter(configure(new ObjectMapper(new SmileFactory())));
+        order = sampleOrder(itemCount);
+        jsonMessage = json.toMessage(order, new MessageProperties());
+        smileMessage = smile.toMessage(order, new MessageProperties());
+        System.out.println("항목 " + itemCount + "개 주문 메시지 크기: JSON " + jsonMessage.getBody().length
+                + " bytes, Smile " + smileMessage.getBody().length + " bytes");
+    }
+
+    @Benchmark
+    public Message serializeJson() {
+        return json.toMessage(order, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message serializeSmile() {
+        return smile.toMessage(order, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return json.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Object deserializeSmile() {
+        return smile.fromMessage(smileMessage);
+    }
+
+    static Order sampleOrder(int itemCount) {
+        Order order = new Order();
+        order.setId(1000L);
+        order.setProductId(1L);
+        order.setQuantity(itemCount);
+        order.setTotalPrice(itemCount * 4500.0);
+        order.setCustomerName("홍길동");
+        order.setCustomerEmail("hong@example.com");
+        order.setOrderDate(LocalDateTime.of(2024, 1, 1, 12, 0));
+        order.setStatus("PENDING");
+        order.setStoreId(1L);
+        order.setEstimatedCompletionTime(LocalDateTime.of(2024, 1, 1, 12, 15));
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setId(2000L + i);
+            item.setOrder(order);
+            item.setProductId(1L + i);
+            item.setProductName("아메리카노");
+            item.setQuantity(1);
+            item.setPrice(4500.0);
+            item.setPreparationTime(3);
+            items.add(item);
+        }
+        order.setItems(items);
+        return order;
+    }
+
+    static ObjectMapper configure(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.order.config;
+
+import com.example.order.model.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Smile 메시지가 JSON 보다 작고 같은 주문으로 복원되는지 확인 (시간 비교는 WireFormatBenchmark)
+class WireFormatTest {
+
+    private final MessageConverter json =
+            new Jackson2JsonMessageConverter(WireFormatBenchmark.configure(new ObjectMapper()));
+    private final MessageConverter smile =
+            new Jackson2SmileMessageConverter(WireFormatBenchmark.configure(new ObjectMapper(new SmileFactory())));
+
+    @Test
+    void smileMessageIsSmallerThanJson() {
+        Order order = WireFormatBenchmark.sampleOrder(5);
+
+        Message jsonMessage = json.toMessage(order, new MessageProperties());
+        Message smileMessage = smile.toMessage(order, new MessageProperties());
+
+        System.out.println("주문 메시지 크기: JSON " + jsonMessage.getBody().length
+                + " bytes, Smile " + smileMessage.getBody().length + " bytes");
+        assertThat(smileMessage.getBody().length).isLessThan(jsonMessage.getBody().length);
+        assertThat(smileMessage.getMessageProperties().getContentType())
+                .isEqualTo(Jackson2SmileMessageConverter.CONTENT_TYPE);
+    }
+
+    @Test
+    void smileMessageRoundTrips() {
+        Order order = WireFormatBenchmark.sampleOrder(5);
+
+        Order restored = (Order) smile.fromMessage(smile.toMessage(order, new MessageProperties()));
+
+        assertThat(restored.getId()).isEqualTo(order.getId());
+        assertThat(restored.getOrderDate()).isEqualTo(order.getOrderDate());
+        assertThat(restored.getItems()).hasSize(5);
+        assertThat(restored.getItems().get(0).getProductName()).isEqualTo("아메리카노");
+    }
+}
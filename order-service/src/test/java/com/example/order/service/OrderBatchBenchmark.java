@@ -0,0 +1,106 @@
+package com.example.order.service;
+
+import com.example.order.OrderApplication;
+import com.example.order.controller.OrderController;
+import com.example.order.dto.BatchOrderResult;
+import com.example.order.model.Order;
+import com.example.order.model.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 주문 N건 저장 시간 비교: 단건 생성(POST /api/orders, 주문마다 트랜잭션) vs 일괄 생성(POST /api/orders/batch)
+// 실제 애플리케이션 컨텍스트(H2, outbox 기록 포함)를 띄워 컨트롤러/서비스를 직접 호출, Eureka/RabbitMQ 연결 없이 실행
+// 실행: ./gradlew :order-service:jmh -Pjmh.includes=OrderBatchBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderBatchBenchmark {
+
+    @Param({"100", "500"})
+    private int orderCount;
+
+    private ConfigurableApplicationContext context;
+    private OrderController orderController;
+    private OrderBatchService orderBatchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "eureka.client.register-with-eureka=false",
+                        "eureka.client.fetch-registry=false",
+                        // 브로커 없이 실행하므로 outbox 릴레이는 사실상 멈춤 (저장 경로만 측정)
+                        "outbox.relay.linger-ms=3600000",
+                        "spring.jpa.show-sql=false")
+                .run();
+        orderController = context.getBean(OrderController.class);
+        orderBatchService = context.getBean(OrderBatchService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void perOrder(Blackhole blackhole) {
+        for (Order order : orders(orderCount)) {
+            blackhole.consume(orderController.createOrder(order));
+        }
+    }
+
+    @Benchmark
+    public BatchOrderResult batch() {
+        return orderBatchService.createOrders(orders(orderCount));
+    }
+
+    private static List<Order> orders(int count) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Order order = new Order();
+            order.setProductId(1L);
+            order.setQuantity(2);
+            order.setTotalPrice(9000.0);
+            order.setCustomerName("홍길동");
+            order.setCustomerEmail("hong@example.com");
+            order.setStoreId(1L + i % 10);
+            List<OrderItem> items = new ArrayList<>();
+            for (int j = 0; j < 2; j++) {
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProductId(1L + j);
+                item.setProductName("아메리카노");
+                item.setQuantity(1);
+                item.setPrice(4500.0);
+                item.setPreparationTime(3);
+                items.add(item);
+            }
+            order.setItems(items);
+            orders.add(order);
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.order.service;
+
+import com.example.order.dto.OrderPage;
+import com.example.order.dto.OrderSummary;
+import com.example.order.model.Order;
+import com.example.order.model.OrderItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주문 목록 조회가 페이지 크기와 상관없이 쿼리 2번(주문 + 주문 항목)으로 끝나는지 확인 (N+1 회귀 방지)
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never"
+})
+@Import(OrderQueryService.class)
+class OrderQueryServiceTest {
+
+    @Autowired
+    private OrderQueryService orderQueryService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 30; i++) {
+            entityManager.persist(order(1L + i % 2, 3));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findOrdersUsesTwoStatementsPerPage() {
+        OrderPage page = orderQueryService.findOrders(null, 20);
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getContent()).allSatisfy(order -> assertThat(order.getItems()).hasSize(3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void nextPageStartsAfterCursor() {
+        OrderPage first = orderQueryService.findOrders(null, 20);
+        statistics.clear();
+
+        OrderPage second = orderQueryService.findOrders(first.getNextCursor(), 20);
+
+        assertThat(second.getContent()).hasSize(10);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getContent()).allSatisfy(order -> assertThat(order.getId()).isLessThan(first.getNextCursor()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findOrdersByStoreUsesTwoStatementsPerPage() {
+        OrderPage page = orderQueryService.findOrdersByStore(1L, null, 20);
+
+        assertThat(page.getContent()).hasSize(15);
+        assertThat(page.getContent()).extracting(OrderSummary::getStoreId).containsOnly(1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Order order(Long storeId, int itemCount) {
+        Order order = new Order();
+        order.setProductId(1L);
+        order.setQuantity(itemCount);
+        order.setTotalPrice(itemCount * 4500.0);
+        order.setCustomerName("홍길동");
+        order.setCustomerEmail("hong@example.com");
+        order.setOrderDate(LocalDateTime.now());
+        order.setStatus("PENDING");
+        order.setStoreId(storeId);
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProductId(1L + i);
+            item.setProductName("아메리카노");
+            item.setQuantity(1);
+            item.setPrice(4500.0);
+            item.setPreparationTime(3);
+            items.add(item);
+        }
+        order.setItems(items);
+        return order;
+    }
+}
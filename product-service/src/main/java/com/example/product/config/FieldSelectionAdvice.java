@@ -0,0 +1,71 @@
+package com.example.product.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+
+// order-service 의 com.example.order.config.FieldSelectionAdvice 와 같은 코드 (서비스별 Dockerfile 이 자기 모듈만 빌드하므로 공용 모듈 대신 복사본 유지, 수정 시 함께 변경)
+// JSON 응답에 ?fields= 가 있으면 직렬화 중에 선택한 필드만 출력 (전체 JSON 트리를 만들지 않음)
+@RestControllerAdvice
+public class FieldSelectionAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+        String fields = ((ServletServerHttpRequest) request).getServletRequest().getParameter(FIELDS_PARAM);
+        if (fields == null || fields.isBlank()) {
+            return body;
+        }
+        return new FieldFilteredValue(body, FieldSelectionFilter.parse(fields));
+    }
+
+    // 원래 값을 필터링 JsonGenerator 로 직렬화
+    public static class FieldFilteredValue implements JsonSerializable {
+
+        private final Object value;
+        private final TokenFilter filter;
+
+        public FieldFilteredValue(Object value, TokenFilter filter) {
+            this.value = value;
+            this.filter = filter;
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            JsonGenerator filtered = new FilteringGeneratorDelegate(
+                    gen, filter, TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true);
+            serializers.defaultSerializeValue(value, filtered);
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+                throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+}
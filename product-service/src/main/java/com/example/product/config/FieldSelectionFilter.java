@@ -0,0 +1,62 @@
+package com.example.product.config;
+
+import com.fasterxml.jackson.core.filter.TokenFilter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// order-service 의 com.example.order.config.FieldSelectionFilter 와 같은 코드 (서비스별 Dockerfile 이 자기 모듈만 빌드하므로 공용 모듈 대신 복사본 유지, 수정 시 함께 변경)
+// ?fields=id,name,category.name 형식의 필드 선택을 Jackson 스트리밍 필터로 변환
+// 배열은 그대로 통과시키고 각 원소 객체에 같은 필드 선택을 적용
+public class FieldSelectionFilter extends TokenFilter {
+
+    // 값이 null 이면 해당 필드 전체 포함
+    private final Map<String, FieldSelectionFilter> fields = new LinkedHashMap<>();
+
+    public static FieldSelectionFilter parse(String spec) {
+        FieldSelectionFilter root = new FieldSelectionFilter();
+        for (String path : spec.split(",")) {
+            String trimmed = path.trim();
+            if (!trimmed.isEmpty()) {
+                root.add(trimmed.split("\\."), 0);
+            }
+        }
+        return root;
+    }
+
+    private void add(String[] path, int index) {
+        String name = path[index];
+        if (index == path.length - 1) {
+            fields.put(name, null);
+            return;
+        }
+        if (fields.containsKey(name) && fields.get(name) == null) {
+            return;
+        }
+        fields.computeIfAbsent(name, k -> new FieldSelectionFilter()).add(path, index + 1);
+    }
+
+    @Override
+    public TokenFilter includeProperty(String name) {
+        if (!fields.containsKey(name)) {
+            return null;
+        }
+        FieldSelectionFilter child = fields.get(name);
+        return child == null ? TokenFilter.INCLUDE_ALL : child;
+    }
+
+    @Override
+    public TokenFilter includeElement(int index) {
+        return this;
+    }
+
+    @Override
+    public boolean includeEmptyObject(boolean contentsFiltered) {
+        return true;
+    }
+
+    @Override
+    public boolean includeEmptyArray(boolean contentsFiltered) {
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.product.controller;
 
+import com.example.product.messaging.InventoryEventProducer;
 import com.example.product.model.Product;
 import com.example.product.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +16,9 @@ public class ProductController {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private InventoryEventProducer inventoryEventProducer;
+
     @GetMapping
     public List<Product> getAllProducts() {
         return productRepository.findAll();
@@ -29,7 +33,9 @@ public class ProductController {
 
     @PostMapping
     public Product createProduct(@RequestBody Product product) {
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        inventoryEventProducer.sendInventoryUpdatedEvent(savedProduct.getId(), savedProduct.getStock());
+        return savedProduct;
     }
 
     @PutMapping("/{id}")
@@ -37,7 +43,9 @@ public class ProductController {
         return productRepository.findById(id)
                 .map(existingProduct -> {
                     product.setId(id);
-                    return ResponseEntity.ok(productRepository.save(product));
+                    Product updatedProduct = productRepository.save(product);
+                    inventoryEventProducer.sendInventoryUpdatedEvent(id, updatedProduct.getStock());
+                    return ResponseEntity.ok(updatedProduct);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -47,6 +55,7 @@ public class ProductController {
         return productRepository.findById(id)
                 .map(product -> {
                     productRepository.delete(product);
+                    inventoryEventProducer.sendInventoryUpdatedEvent(id, 0);
                     return ResponseEntity.ok().<Void>build();
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -67,7 +76,9 @@ public class ProductController {
         return productRepository.findById(id)
                 .map(product -> {
                     product.setStock(stock);
-                    return ResponseEntity.ok(productRepository.save(product));
+                    Product updatedProduct = productRepository.save(product);
+                    inventoryEventProducer.sendInventoryUpdatedEvent(id, stock);
+                    return ResponseEntity.ok(updatedProduct);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
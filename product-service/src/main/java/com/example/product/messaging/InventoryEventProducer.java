@@ -0,0 +1,38 @@
+package com.example.product.messaging;
+
+import com.example.product.config.RabbitMQConfig;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class InventoryEventProducer {
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    // 캐시 무효화 용도이므로 소비되지 않은 메시지는 1분 후 폐기
+    private static final String MESSAGE_TTL_MS = "60000";
+
+    public void sendInventoryUpdatedEvent(Long productId, Integer stock) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("productId", productId);
+        message.put("stock", stock);
+        message.put("timestamp", LocalDateTime.now());
+
+        rabbitTemplate.convertAndSend(
+            RabbitMQConfig.EXCHANGE_NAME,
+            RabbitMQConfig.INVENTORY_UPDATED_QUEUE,
+            message,
+            msg -> {
+                msg.getMessageProperties().setExpiration(MESSAGE_TTL_MS);
+                return msg;
+            }
+        );
+        System.out.println("상품 변경 이벤트 발행: " + productId);
+    }
+}
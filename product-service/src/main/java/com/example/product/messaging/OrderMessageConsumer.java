@@ -1,21 +1,52 @@
 package com.example.product.messaging;
 
-import com.example.product.model.Product;
+import com.example.product.model.ProcessedMessage;
+import com.example.product.repository.ProcessedMessageRepository;
 import com.example.product.repository.ProductRepository;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
+// order-service outbox 는 at-least-once 로 발행하므로 같은 주문 이벤트를 여러 번 받을 수 있음
+// messageId(outbox-{id}) 를 재고 감소와 같은 트랜잭션에서 PROCESSED_MESSAGES 에 기록해 한 번만 반영
 @Component
 public class OrderMessageConsumer {
 
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Autowired
+    private InventoryEventProducer inventoryEventProducer;
+
+    // 처리 기록 보관 기간 (outbox 재발행이 일어날 수 있는 기간보다 길게)
+    @Value("${messaging.processed-retention-hours:168}")
+    private long processedRetentionHours;
+
     @RabbitListener(queues = "order.created")
-    public void handleOrderCreated(OrderDTO order) {
+    @Transactional
+    public void handleOrderCreated(OrderDTO order,
+                                   @Header(name = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
         System.out.println("주문 생성 이벤트 수신: " + order.getId());
 
+        if (messageId != null) {
+            if (processedMessageRepository.existsById(messageId)) {
+                System.out.println("이미 처리한 주문 이벤트 무시: " + messageId);
+                return;
+            }
+            // 동시에 같은 메시지를 처리하면 커밋 시 기본키 충돌로 한쪽이 롤백되고 재전달 후 위에서 무시됨
+            processedMessageRepository.save(new ProcessedMessage(messageId, LocalDateTime.now()));
+        }
+
         if (order.getItems() != null && !order.getItems().isEmpty()) {
             for (OrderItemDTO item : order.getItems()) {
                 productRepository.findById(item.getProductId())
@@ -29,6 +60,7 @@ public class OrderMessageConsumer {
 
                         product.setStock(newStock);
                         productRepository.save(product);
+                        inventoryEventProducer.sendInventoryUpdatedEvent(product.getId(), newStock);
 
                         System.out.println("재고 감소: " + product.getName() +
                                          " (" + item.getQuantity() + "개) -> 남은 재고: " + newStock);
@@ -36,5 +68,13 @@ public class OrderMessageConsumer {
             }
         }
     }
-}
 
+    @Scheduled(fixedDelayString = "${messaging.processed-cleanup-ms:3600000}")
+    public void purgeProcessedMessages() {
+        int deleted = processedMessageRepository.deleteProcessedBefore(
+                LocalDateTime.now().minusHours(processedRetentionHours));
+        if (deleted > 0) {
+            System.out.println("처리 완료 메시지 기록 정리: " + deleted + "건");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.product.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 처리를 마친 메시지 ID (outbox 재발행으로 같은 메시지를 다시 받아도 재고를 한 번만 반영)
+@Entity
+@Table(name = "PROCESSED_MESSAGES")
+@Data
+@NoArgsConstructor
+public class ProcessedMessage {
+    @Id
+    private String messageId;
+    private LocalDateTime processedAt;
+
+    public ProcessedMessage(String messageId, LocalDateTime processedAt) {
+        this.messageId = messageId;
+        this.processedAt = processedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.product.repository;
+
+import com.example.product.model.ProcessedMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessage, String> {
+
+    @Modifying
+    @Transactional
+    @Query("delete from ProcessedMessage m where m.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -14,4 +14,9 @@ CREATE TABLE IF NOT EXISTS PRODUCTS (
     preparation_time INT,
     category_id BIGINT,
     FOREIGN KEY (category_id) REFERENCES CATEGORIES(id)
-); 
\ No newline at end of file
+); 
+-- 처리한 주문 이벤트 messageId (outbox 재발행 중복 수신 시 재고를 한 번만 감소)
+CREATE TABLE IF NOT EXISTS PROCESSED_MESSAGES (
+    message_id VARCHAR(100) PRIMARY KEY,
+    processed_at TIMESTAMP NOT NULL
+);